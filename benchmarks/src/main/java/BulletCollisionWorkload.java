@@ -0,0 +1,46 @@
+import bench.Workload;
+
+import java.util.ArrayList;
+
+// Enemies spread evenly over a Level1-sized world, each with a player bullet just above it and
+// one of its own bullets just below the player. Everything reaches the narrow phase but nothing
+// hits, so every run sees the same state.
+public class BulletCollisionWorkload implements Workload {
+
+    private static final double LEVEL_WIDTH = 9600;
+    private static final double ENEMY_Y = 595;
+
+    private ProjectileSystem projectiles;
+    private Player player;
+    private ArrayList<Enemy> enemies;
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+        CollisionManager.setWorldBounds(LEVEL_WIDTH, GameSimulation.VIEW_HEIGHT);
+
+        projectiles = new ProjectileSystem();
+        player = new Player(50, 535, LEVEL_WIDTH);
+        double belowPlayer = player.getBounds().getMaxY() + 20;
+
+        enemies = new ArrayList<>();
+        double spacing = (LEVEL_WIDTH - 400) / entityCount;
+        for (int i = 0; i < entityCount; i++) {
+            double x = 200 + i * spacing;
+            BasicEnemy enemy = new BasicEnemy(x, ENEMY_Y);
+            enemy.setActive(true);
+            enemy.update(0, 0, GameSimulation.VIEW_WIDTH);
+            enemies.add(enemy);
+
+            double aboveEnemy = enemy.getBounds().getMinY() - 20;
+            projectiles.spawn(x, aboveEnemy, true, 10, ProjectileSystem.FACTION_PLAYER, null);
+            projectiles.spawn(player.getPositionX(), belowPlayer, false, 10, ProjectileSystem.FACTION_ENEMY, enemy);
+        }
+    }
+
+    @Override
+    public Object run() {
+        CollisionManager.checkBulletCollisions(projectiles, player, enemies, 0, GameSimulation.VIEW_WIDTH);
+        return enemies;
+    }
+}
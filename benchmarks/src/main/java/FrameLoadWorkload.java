@@ -0,0 +1,17 @@
+import bench.Workload;
+
+// Looking up one sprite sheet's frames, as every uncached animation load does.
+public class FrameLoadWorkload implements Workload {
+
+    private static final String FRAMES = "/Assets/Player/Run/Run_data.json";
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+    }
+
+    @Override
+    public Object run() {
+        return SpriteSheetLoader.loadFrames(FRAMES);
+    }
+}
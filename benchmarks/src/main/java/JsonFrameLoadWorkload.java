@@ -0,0 +1,17 @@
+import bench.Workload;
+
+// The Gson path FrameTable replaced, kept as a baseline for FrameLoadWorkload.
+public class JsonFrameLoadWorkload implements Workload {
+
+    private static final String FRAMES = "/Assets/Player/Run/Run_data.json";
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+    }
+
+    @Override
+    public Object run() {
+        return SpriteSheetLoader.loadFramesFromJson(FRAMES);
+    }
+}
@@ -0,0 +1,32 @@
+import bench.Workload;
+
+import java.util.ArrayList;
+
+// Shielded enemies spread over a Level1-sized world, all out of the player's reach.
+public class MeleeCollisionWorkload implements Workload {
+
+    private static final double LEVEL_WIDTH = 9600;
+
+    private Player player;
+    private ArrayList<Enemy> enemies;
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+        player = new Player(50, 535, LEVEL_WIDTH);
+
+        enemies = new ArrayList<>();
+        double spacing = (LEVEL_WIDTH - 800) / entityCount;
+        for (int i = 0; i < entityCount; i++) {
+            ShieldedEnemy enemy = new ShieldedEnemy(600 + i * spacing, 595);
+            enemy.setActive(true);
+            enemies.add(enemy);
+        }
+    }
+
+    @Override
+    public Object run() {
+        CollisionManager.checkMeleeCollisions(player, enemies);
+        return player;
+    }
+}
@@ -0,0 +1,29 @@
+import bench.Workload;
+
+// Player standing at Level1's start: gravity, ground lookup and snap every run.
+public class PlayerPhysicsWorkload implements Workload {
+
+    private static final double TICK_SECONDS = 1.0 / 120;
+
+    private Level level;
+    private Player player;
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+        level = new Level1();
+        player = new Player(level.getPlayerStartX(), level.getPlayerStartY(), level.getLevelWidth());
+    }
+
+    @Override
+    public Object run() {
+        PhysicsManager.updatePlayer(player, level, TICK_SECONDS);
+        return player;
+    }
+
+    @Override
+    public void tearDown() {
+        level.dispose();
+        player.dispose();
+    }
+}
@@ -0,0 +1,26 @@
+import bench.Workload;
+
+// entityCount bullets of both factions flying through an unbounded level, so none are ever
+// removed and every run moves the same number.
+public class ProjectileUpdateWorkload implements Workload {
+
+    private static final double TICK_SECONDS = 1.0 / 120;
+
+    private ProjectileSystem projectiles;
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+        projectiles = new ProjectileSystem();
+        for (int i = 0; i < entityCount; i++) {
+            byte faction = i % 2 == 0 ? ProjectileSystem.FACTION_PLAYER : ProjectileSystem.FACTION_ENEMY;
+            projectiles.spawn(100 + i, 300 + i % 200, true, 10, faction, null);
+        }
+    }
+
+    @Override
+    public Object run() {
+        projectiles.update(TICK_SECONDS, Double.MAX_VALUE);
+        return projectiles;
+    }
+}
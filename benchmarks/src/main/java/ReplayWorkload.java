@@ -0,0 +1,41 @@
+import bench.Workload;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// The recorded Level1 run (Replays/level1.inp, written by HeadlessRunner) from the first tick to
+// the last; one run() is the whole replay. A replay that no longer ends in the recorded state
+// fails instead of reporting a time, so gameplay changes cannot pass as speedups. After an
+// intended gameplay change, re-record with: java HeadlessRunner 100000 resources/Replays/level1.inp
+public class ReplayWorkload implements Workload {
+
+    private static final String RECORDING = "/Replays/level1.inp";
+
+    private InputRecording recording;
+
+    // entityCount is unused, the recording fixes the level
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+        try (InputStream in = ReplayWorkload.class.getResourceAsStream(RECORDING)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + RECORDING);
+            }
+            recording = InputRecording.read(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + RECORDING, e);
+        }
+    }
+
+    @Override
+    public Object run() {
+        GameSimulation simulation = recording.createSimulation();
+        long checksum = recording.replay(simulation);
+        simulation.dispose();
+        if (checksum != recording.getChecksum()) {
+            throw new IllegalStateException(String.format("Replay diverged: checksum %016x, recorded %016x",
+                    checksum, recording.getChecksum()));
+        }
+        return checksum;
+    }
+}
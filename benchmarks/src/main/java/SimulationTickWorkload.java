@@ -0,0 +1,37 @@
+import bench.Workload;
+
+// Level1 with extra BasicEnemies spread over the map until there are entityCount enemies.
+// The player holds right and fires so enemies activate, shoot and die as in real play.
+public class SimulationTickWorkload implements Workload {
+
+    private GameSimulation simulation;
+
+    @Override
+    public void setUp(int entityCount) {
+        Headless.enable();
+        simulation = new GameSimulation();
+
+        int extra = entityCount - simulation.getEnemies().size();
+        double levelWidth = simulation.getCurrentLevel().getLevelWidth();
+        for (int i = 0; i < extra; i++) {
+            double x = 1500 + (levelWidth - 1700) * i / extra;
+            simulation.spawnEnemy(new BasicEnemy(x, 595));
+        }
+
+        Player player = simulation.getPlayer();
+        player.setRightPressed(true);
+        player.setShootPressed(true);
+    }
+
+    @Override
+    public Object run() {
+        simulation.step();
+        simulation.getDespawned().clear();
+        return simulation;
+    }
+
+    @Override
+    public void tearDown() {
+        simulation.dispose();
+    }
+}
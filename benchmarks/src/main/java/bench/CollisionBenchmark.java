@@ -0,0 +1,55 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+
+    // 24 is Level1's enemy count
+    @Param({"24", "250", "1000", "4000"})
+    public int entityCount;
+
+    private Workload bullets;
+    private Workload melee;
+    private Workload projectiles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bullets = Workloads.create("BulletCollisionWorkload", entityCount);
+        melee = Workloads.create("MeleeCollisionWorkload", entityCount);
+        projectiles = Workloads.create("ProjectileUpdateWorkload", entityCount);
+    }
+
+    @Benchmark
+    public Object checkBulletCollisions() {
+        return bullets.run();
+    }
+
+    @Benchmark
+    public Object checkMeleeCollisions() {
+        return melee.run();
+    }
+
+    @Benchmark
+    public Object updateProjectiles() {
+        return projectiles.run();
+    }
+}
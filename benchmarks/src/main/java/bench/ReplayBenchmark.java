@@ -0,0 +1,38 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// A full recorded Level1 play session replayed headless: level build, every tick, teardown.
+// The regression workload for whole-game changes, where the tick benchmarks only cover one step.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReplayBenchmark {
+
+    private Workload replay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        replay = Workloads.create("ReplayWorkload", 0);
+    }
+
+    @Benchmark
+    public Object replayLevel1() {
+        return replay.run();
+    }
+}
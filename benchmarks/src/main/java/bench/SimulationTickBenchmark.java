@@ -0,0 +1,59 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One full fixed tick of GameSimulation (what GameEngine.update runs), Level1 plus extra enemies.
+// Each invocation rebuilds the world and plays its first TICKS ticks, so every measured tick comes
+// from the same stretch of play, with enemies activating, shooting and dying, rather than from
+// the empty world left once the player has run through the level. Scores are per tick.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationTickBenchmark {
+
+    // ten seconds of play at the default 120 Hz
+    private static final int TICKS = 1200;
+
+    @Param({"24", "250", "1000", "4000"})
+    public int entityCount;
+
+    private Workload tick;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        tick = Workloads.create("SimulationTickWorkload", entityCount);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        tick.tearDown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public Object step() {
+        Object result = null;
+        for (int i = 0; i < TICKS; i++) {
+            result = tick.run();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpriteSheetBenchmark {
+
+    private Workload frames;
+    private Workload jsonFrames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        frames = Workloads.create("FrameLoadWorkload", 0);
+        jsonFrames = Workloads.create("JsonFrameLoadWorkload", 0);
+    }
+
+    @Benchmark
+    public Object loadFrames() {
+        return frames.run();
+    }
+
+    @Benchmark
+    public Object loadFramesJson() {
+        return jsonFrames.run();
+    }
+}
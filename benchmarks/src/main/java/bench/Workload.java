@@ -0,0 +1,15 @@
+package bench;
+
+// JMH refuses benchmarks in the default package and named packages cannot see the game's
+// default-package classes, so each hot path is wrapped in a default-package fixture that
+// implements this interface and is looked up by name (see Workloads).
+public interface Workload {
+
+    void setUp(int entityCount);
+
+    // returned value is handed to JMH so the work cannot be optimised away
+    Object run();
+
+    default void tearDown() {
+    }
+}
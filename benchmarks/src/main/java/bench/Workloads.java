@@ -0,0 +1,17 @@
+package bench;
+
+final class Workloads {
+
+    private Workloads() {
+    }
+
+    static Workload create(String className, int entityCount) {
+        try {
+            Workload workload = (Workload) Class.forName(className).getDeclaredConstructor().newInstance();
+            workload.setUp(entityCount);
+            return workload;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create workload " + className, e);
+        }
+    }
+}
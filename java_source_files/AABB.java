@@ -0,0 +1,47 @@
+// Mutable axis-aligned box. Each entity owns one and refreshes it in place from
+// getBounds(), so the collision path does not allocate. Callers must not keep the
+// returned box across ticks; copy the values out if needed.
+public class AABB {
+
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+
+    public AABB set(double x, double y, double width, double height) {
+        this.minX = x;
+        this.minY = y;
+        this.maxX = x + width;
+        this.maxY = y + height;
+        return this;
+    }
+
+    // same strict test as Rectangle2D.intersects, so touching edges do not count
+    public boolean intersects(AABB other) {
+        return other.maxX > minX && other.maxY > minY && other.minX < maxX && other.minY < maxY;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double getWidth() {
+        return maxX - minX;
+    }
+
+    public double getHeight() {
+        return maxY - minY;
+    }
+}
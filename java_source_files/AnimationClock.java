@@ -0,0 +1,30 @@
+import java.util.ArrayList;
+
+// Single pulse for every SpriteAnimation in the game, driven from the GameEngine loop.
+// Entities are registered when they are added to the engine and unregistered when they despawn.
+public class AnimationClock {
+
+    private final ArrayList<SpriteAnimation> animations = new ArrayList<>();
+
+    public void register(GameObjects owner) {
+        animations.addAll(owner.getAnimations());
+    }
+
+    public void unregister(GameObjects owner) {
+        animations.removeAll(owner.getAnimations());
+    }
+
+    public void clear() {
+        animations.clear();
+    }
+
+    public void tick(long now) {
+        for (int i = 0; i < animations.size(); i++) {
+            animations.get(i).tick(now);
+        }
+    }
+
+    public int size() {
+        return animations.size();
+    }
+}
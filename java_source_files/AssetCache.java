@@ -0,0 +1,131 @@
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+// One decoded copy of every sprite sheet and frame list, shared by all entities.
+// Every acquire must be paired with a release; an asset is dropped when its count hits zero.
+// Entries are futures so the AssetPreloader can decode on worker threads: acquiring an asset
+// that is still decoding waits for that decode instead of starting a second one.
+public class AssetCache {
+
+    // decodes on the calling thread, outside the cache lock
+    private static final Executor CALLER = Runnable::run;
+
+    private static final HashMap<String, CompletableFuture<Image>> images = new HashMap<>();
+    private static final HashMap<String, CompletableFuture<List<Rectangle2D>>> frames = new HashMap<>();
+    private static final HashMap<String, Integer> refCounts = new HashMap<>();
+
+    // Returns null in headless mode; nothing is decoded but the reference is still counted
+    public static Image acquireImage(String resourcePath) {
+        return acquireImageAsync(resourcePath, CALLER).join();
+    }
+
+    public static List<Rectangle2D> acquireFrames(String resourcePath) {
+        return acquireFramesAsync(resourcePath, CALLER).join();
+    }
+
+    // Release with sheetFramesKey(sheetPath, framesPath)
+    public static List<Rectangle2D> acquireSheetFrames(String sheetPath, String framesPath) {
+        return acquireSheetFramesAsync(sheetPath, framesPath, CALLER).join();
+    }
+
+    // Retains a reference now; the decode, if one is needed, runs on executor
+    public static CompletableFuture<Image> acquireImageAsync(String resourcePath, Executor executor) {
+        if (Headless.isEnabled()) {
+            synchronized (AssetCache.class) {
+                retain(resourcePath);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        return acquire(images, resourcePath, executor,
+                () -> new Image(AssetCache.class.getResourceAsStream(resourcePath)));
+    }
+
+    public static CompletableFuture<List<Rectangle2D>> acquireFramesAsync(String resourcePath, Executor executor) {
+        return acquire(frames, resourcePath, executor,
+                () -> Collections.unmodifiableList(SpriteSheetLoader.loadFrames(resourcePath)));
+    }
+
+    // A sheet's frames, already moved into its atlas when the sheet was packed. The translated
+    // list is cached per sheet, so every entity playing the clip shares it like any other frames
+    public static CompletableFuture<List<Rectangle2D>> acquireSheetFramesAsync(String sheetPath, String framesPath,
+                                                                               Executor executor) {
+        TextureAtlas.Region region = TextureAtlas.find(sheetPath);
+        if (region == null) {
+            return acquireFramesAsync(framesPath, executor);
+        }
+        return acquire(frames, sheetFramesKey(sheetPath, framesPath), executor,
+                () -> Collections.unmodifiableList(region.translate(SpriteSheetLoader.loadFrames(framesPath))));
+    }
+
+    // the cache key acquireSheetFrames used; just the frames path for sheets that are not packed
+    public static String sheetFramesKey(String sheetPath, String framesPath) {
+        return TextureAtlas.find(sheetPath) == null ? framesPath : framesPath + "@" + sheetPath;
+    }
+
+    public static synchronized void release(String resourcePath) {
+        Integer count = refCounts.get(resourcePath);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            refCounts.put(resourcePath, count - 1);
+            return;
+        }
+        refCounts.remove(resourcePath);
+        images.remove(resourcePath);
+        frames.remove(resourcePath);
+    }
+
+    public static synchronized int getRefCount(String resourcePath) {
+        Integer count = refCounts.get(resourcePath);
+        return count == null ? 0 : count;
+    }
+
+    public static synchronized int size() {
+        return images.size() + frames.size();
+    }
+
+    private static <T> CompletableFuture<T> acquire(HashMap<String, CompletableFuture<T>> entries, String resourcePath,
+                                                    Executor executor, Supplier<T> decoder) {
+        CompletableFuture<T> future;
+        boolean startDecode = false;
+        synchronized (AssetCache.class) {
+            retain(resourcePath);
+            future = entries.get(resourcePath);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                entries.put(resourcePath, future);
+                startDecode = true;
+            }
+        }
+        if (startDecode) {
+            CompletableFuture<T> pending = future;
+            executor.execute(() -> decode(entries, resourcePath, pending, decoder));
+        }
+        return future;
+    }
+
+    private static <T> void decode(HashMap<String, CompletableFuture<T>> entries, String resourcePath,
+                                   CompletableFuture<T> pending, Supplier<T> decoder) {
+        try {
+            pending.complete(decoder.get());
+        } catch (RuntimeException e) {
+            // a failed decode is not cached, so a later acquire tries again
+            synchronized (AssetCache.class) {
+                entries.remove(resourcePath, pending);
+            }
+            pending.completeExceptionally(e);
+        }
+    }
+
+    private static void retain(String resourcePath) {
+        refCounts.merge(resourcePath, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,41 @@
+import java.util.ArrayList;
+import java.util.List;
+
+// The sprite sheets and frame tables a level needs, so they can be decoded before its entities
+// are built. Anything missing from a manifest still works; it is just decoded on first use.
+public class AssetManifest {
+
+    private final ArrayList<String> images = new ArrayList<>();
+    private final ArrayList<String> sheets = new ArrayList<>();
+    private final ArrayList<String> frameTables = new ArrayList<>();
+
+    public AssetManifest sprite(String sheetPath, String framesPath) {
+        images.add(sheetPath);
+        sheets.add(sheetPath);
+        frameTables.add(framesPath);
+        return this;
+    }
+
+    public AssetManifest image(String path) {
+        images.add(path);
+        return this;
+    }
+
+    public List<String> getImages() {
+        return images;
+    }
+
+    // the images that are cut into frames; only these go into a level's texture atlas.
+    // getFrameTables().get(i) holds the frames of getSheets().get(i)
+    public List<String> getSheets() {
+        return sheets;
+    }
+
+    public List<String> getFrameTables() {
+        return frameTables;
+    }
+
+    public int size() {
+        return images.size() + frameTables.size();
+    }
+}
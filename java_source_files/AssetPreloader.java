@@ -0,0 +1,78 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Decodes a level's AssetManifest concurrently, one task per asset, on a pool sized to the
+// machine. The futures live in the AssetCache, so entity constructors that acquire an asset
+// simply wait for (or reuse) the decode started here. The preloader holds one reference per
+// asset until release(), which must come after the level's entities have taken theirs.
+public class AssetPreloader {
+
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+    private static ExecutorService pool;
+
+    private final AssetManifest manifest;
+    private final ArrayList<CompletableFuture<?>> decodes = new ArrayList<>();
+    private boolean started;
+
+    public AssetPreloader(AssetManifest manifest) {
+        this.manifest = manifest;
+    }
+
+    public List<CompletableFuture<?>> start() {
+        if (started) {
+            return decodes;
+        }
+        started = true;
+        ExecutorService executor = getPool();
+        for (String path : manifest.getImages()) {
+            decodes.add(AssetCache.acquireImageAsync(TextureAtlas.resolveImage(path), executor));
+        }
+        List<String> sheets = manifest.getSheets();
+        List<String> frameTables = manifest.getFrameTables();
+        for (int i = 0; i < frameTables.size(); i++) {
+            decodes.add(AssetCache.acquireSheetFramesAsync(sheets.get(i), frameTables.get(i), executor));
+        }
+        return decodes;
+    }
+
+    // Blocks until every decode has finished; failures are left for the entity that needs the
+    // asset to report, as it would without preloading
+    public void awaitAll() {
+        CompletableFuture.allOf(start().toArray(new CompletableFuture<?>[0]))
+                .handle((result, error) -> null)
+                .join();
+    }
+
+    public void release() {
+        if (!started) {
+            return;
+        }
+        started = false;
+        decodes.clear();
+        for (String path : manifest.getImages()) {
+            AssetCache.release(TextureAtlas.resolveImage(path));
+        }
+        List<String> sheets = manifest.getSheets();
+        List<String> frameTables = manifest.getFrameTables();
+        for (int i = 0; i < frameTables.size(); i++) {
+            AssetCache.release(AssetCache.sheetFramesKey(sheets.get(i), frameTables.get(i)));
+        }
+    }
+
+    // shared with other background decodes, e.g. TiledBackground's fallback tiles
+    static synchronized ExecutorService getPool() {
+        if (pool == null) {
+            pool = Executors.newFixedThreadPool(THREADS, task -> {
+                Thread thread = new Thread(task, "asset-decode-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,148 @@
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// Build-time tool: packs the sprite sheets each level's manifest lists into a few large atlas
+// images and writes the index TextureAtlas reads. Sheets are placed on shelves, tallest first,
+// with a gap so filtering never samples a neighbour. Run by the game module's build:
+//   java AtlasPacker resources game/target/classes/Assets/atlas
+public class AtlasPacker {
+
+    private static final int ATLAS_SIZE = 2048;
+    private static final int PADDING = 2;
+
+    private static class Placement {
+        final String sheetPath;
+        final BufferedImage image;
+        int atlas;
+        int x;
+        int y;
+
+        Placement(String sheetPath, BufferedImage image) {
+            this.sheetPath = sheetPath;
+            this.image = image;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: AtlasPacker <resourcesDir> <outputDir>");
+            System.exit(1);
+        }
+        File resources = new File(args[0]);
+        File outputDir = new File(args[1]);
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("cannot create " + outputDir);
+        }
+
+        HashSet<String> packed = new HashSet<>();
+        ArrayList<Placement> index = new ArrayList<>();
+        ArrayList<String> atlasPaths = new ArrayList<>();
+
+        for (int level = LevelManager.FIRST_LEVEL; level <= LevelManager.LEVEL_COUNT; level++) {
+            ArrayList<Placement> sheets = new ArrayList<>();
+            for (String sheetPath : LevelManager.getManifest(level).getSheets()) {
+                // a sheet shared by several levels lives in the first level's atlas
+                if (!packed.add(sheetPath)) continue;
+                File file = new File(resources, sheetPath);
+                BufferedImage image = file.isFile() ? ImageIO.read(file) : null;
+                if (image == null) {
+                    System.out.println("Skipping " + sheetPath + ": not found");
+                } else if (image.getWidth() + PADDING > ATLAS_SIZE || image.getHeight() + PADDING > ATLAS_SIZE) {
+                    System.out.println("Skipping " + sheetPath + ": larger than an atlas");
+                } else {
+                    sheets.add(new Placement(sheetPath, image));
+                }
+            }
+
+            int atlasCount = pack(sheets);
+            for (int atlas = 0; atlas < atlasCount; atlas++) {
+                String name = "level" + level + "_" + atlas + ".png";
+                writeAtlas(sheets, atlas, new File(outputDir, name));
+                atlasPaths.add("/Assets/atlas/" + name);
+            }
+            for (Placement sheet : sheets) {
+                sheet.atlas += atlasPaths.size() - atlasCount;
+                index.add(sheet);
+            }
+        }
+
+        writeIndex(index, atlasPaths, new File(outputDir, "atlas.bin"));
+        System.out.println("Packed " + index.size() + " sheets into " + atlasPaths.size() + " atlases in " + outputDir);
+    }
+
+    // Assigns atlas and position to every sheet; returns how many atlases were needed
+    private static int pack(ArrayList<Placement> sheets) {
+        sheets.sort((a, b) -> Integer.compare(b.image.getHeight(), a.image.getHeight()));
+        int atlas = 0;
+        int x = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (Placement sheet : sheets) {
+            int width = sheet.image.getWidth() + PADDING;
+            int height = sheet.image.getHeight() + PADDING;
+            if (x + width > ATLAS_SIZE) {
+                x = 0;
+                shelfY += shelfHeight;
+                shelfHeight = 0;
+            }
+            if (shelfY + height > ATLAS_SIZE) {
+                atlas++;
+                x = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+            sheet.atlas = atlas;
+            sheet.x = x;
+            sheet.y = shelfY;
+            x += width;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+        return sheets.isEmpty() ? 0 : atlas + 1;
+    }
+
+    private static void writeAtlas(ArrayList<Placement> sheets, int atlas, File file) throws IOException {
+        int width = 1;
+        int height = 1;
+        for (Placement sheet : sheets) {
+            if (sheet.atlas != atlas) continue;
+            width = Math.max(width, sheet.x + sheet.image.getWidth());
+            height = Math.max(height, sheet.y + sheet.image.getHeight());
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (Placement sheet : sheets) {
+            if (sheet.atlas != atlas) continue;
+            // copied pixel for pixel; compositing would round semi-transparent edges
+            int w = sheet.image.getWidth();
+            int h = sheet.image.getHeight();
+            image.setRGB(sheet.x, sheet.y, w, h, sheet.image.getRGB(0, 0, w, h, null, 0, w), 0, w);
+        }
+        ImageIO.write(image, "png", file);
+    }
+
+    private static void writeIndex(ArrayList<Placement> index, ArrayList<String> atlasPaths, File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(TextureAtlas.MAGIC);
+            out.writeInt(index.size());
+            for (Placement sheet : index) {
+                writeString(out, sheet.sheetPath);
+                writeString(out, atlasPaths.get(sheet.atlas));
+                out.writeInt(sheet.x);
+                out.writeInt(sheet.y);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -1,69 +1,232 @@
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.net.URL;
 
+// Level music as one continuous PCM stream: the intro runs straight into the loop, and the loop
+// repeats with its end crossfaded into its start, so there is no gap at either seam. Both files
+// are decoded on the music thread, so starting a level never waits on them. A file that is
+// missing or unreadable is skipped.
 public class BGMManager {
-    private static MediaPlayer intro;
-    private static MediaPlayer bgm;
 
-    public static void start(String introPath, String bgmPath, double volume) {
+    private static final int CROSSFADE_MS = 40;
+    private static final int CHUNK_FRAMES = 2048;
+
+    private static volatile double volume = 1.0;
+    private static Track current;
+
+    public static synchronized void start(String introPath, String bgmPath, double volume) {
         stop();
+        BGMManager.volume = volume;
+        if (Headless.isEnabled()) {
+            return;
+        }
+
+        current = new Track(introPath, bgmPath);
+        Thread thread = new Thread(current, "bgm");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // applied to the next chunk written; 0 keeps the music running silently
+    public static void setVolume(double volume) {
+        BGMManager.volume = volume;
+    }
+
+    public static synchronized void stop() {
+        if (current != null) {
+            current.stop();
+            current = null;
+        }
+    }
 
-        Media introMedia = new Media(BGMManager.class.getResource(introPath).toString());
-        intro = new MediaPlayer(introMedia);
-        intro.setVolume(volume);
+    // interleaved 16-bit samples plus the format they are in
+    private static class Pcm {
+        final short[] samples;
+        final int channels;
+        final float sampleRate;
 
-        Media bgmMedia = new Media(BGMManager.class.getResource(bgmPath).toString());
-        bgm = new MediaPlayer(bgmMedia);
-        bgm.setCycleCount(MediaPlayer.INDEFINITE);
-        bgm.setVolume(volume);
+        Pcm(short[] samples, int channels, float sampleRate) {
+            this.samples = samples;
+            this.channels = channels;
+            this.sampleRate = sampleRate;
+        }
 
-        intro.setOnEndOfMedia(() -> {
-            double v = AudioSettings.getInstance().getBgmVolume();
-            if (bgm != null && v > 0.0) {
-                bgm.play();
+        int frames() {
+            return samples.length / channels;
+        }
+
+        static Pcm decode(String path) {
+            URL url = BGMManager.class.getResource(path);
+            if (url == null) {
+                System.err.println("Missing music: " + path);
+                return null;
+            }
+            try (InputStream in = new BufferedInputStream(url.openStream());
+                 AudioInputStream source = AudioSystem.getAudioInputStream(in)) {
+                AudioFormat base = source.getFormat();
+                AudioFormat pcm16 = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, base.getSampleRate(), 16,
+                        base.getChannels(), base.getChannels() * 2, base.getSampleRate(), false);
+                try (AudioInputStream decoded = AudioSystem.getAudioInputStream(pcm16, source)) {
+                    byte[] bytes = decoded.readAllBytes();
+                    short[] samples = new short[bytes.length / 2];
+                    for (int i = 0; i < samples.length; i++) {
+                        samples[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+                    }
+                    return new Pcm(samples, base.getChannels(), base.getSampleRate());
+                }
+            } catch (Exception e) {
+                System.err.println("Failed to decode music " + path + ": " + e.getMessage());
+                return null;
             }
-        });
+        }
 
-        if (volume > 0.0) {
-            intro.play();
+        // linear resampling and channel up/down-mixing into another format
+        Pcm convertTo(int targetChannels, float targetRate) {
+            if (targetChannels == channels && targetRate == sampleRate) {
+                return this;
+            }
+            int sourceFrames = frames();
+            int targetFrames = (int) ((long) sourceFrames * targetRate / sampleRate);
+            short[] out = new short[targetFrames * targetChannels];
+            double step = sampleRate / targetRate;
+            for (int f = 0; f < targetFrames; f++) {
+                double position = f * step;
+                int i0 = Math.min((int) position, sourceFrames - 1);
+                int i1 = Math.min(i0 + 1, sourceFrames - 1);
+                double t = position - i0;
+                for (int c = 0; c < targetChannels; c++) {
+                    double a = sample(i0, c, targetChannels);
+                    double b = sample(i1, c, targetChannels);
+                    out[f * targetChannels + c] = (short) Math.round(a + (b - a) * t);
+                }
+            }
+            return new Pcm(out, targetChannels, targetRate);
+        }
+
+        // mono is spread to every channel; mixing down to mono averages the channels
+        private double sample(int frame, int channel, int targetChannels) {
+            if (channels == 1) {
+                return samples[frame];
+            }
+            if (targetChannels == 1) {
+                double sum = 0;
+                for (int c = 0; c < channels; c++) {
+                    sum += samples[frame * channels + c];
+                }
+                return sum / channels;
+            }
+            return samples[frame * channels + channel];
         }
     }
 
-    public static void setVolume(double volume) {
-        if (intro != null) {
-            if (volume == 0.0) {
-                if (intro.getStatus() == MediaPlayer.Status.PLAYING) intro.pause();
-                intro.setVolume(0.0);
-            } else {
-                intro.setVolume(volume);
+    private static class Track implements Runnable {
+        private final String introPath;
+        private final String loopPath;
+        private volatile boolean stopped;
+        private volatile SourceDataLine line;
+
+        Track(String introPath, String loopPath) {
+            this.introPath = introPath;
+            this.loopPath = loopPath;
+        }
+
+        void stop() {
+            stopped = true;
+            SourceDataLine playing = line;
+            if (playing != null) {
+                // unblocks a pending write so the thread notices at once
+                playing.stop();
+                playing.flush();
+            }
+        }
+
+        @Override
+        public void run() {
+            Pcm intro = Pcm.decode(introPath);
+            Pcm loop = Pcm.decode(loopPath);
+            if ((intro == null && loop == null) || stopped) {
+                return;
+            }
+
+            // everything is played in the loop's format, since the loop runs longest
+            Pcm reference = loop != null ? loop : intro;
+            int channels = Math.min(reference.channels, 2);
+            float rate = reference.sampleRate;
+            if (intro != null) intro = intro.convertTo(channels, rate);
+            if (loop != null) loop = loop.convertTo(channels, rate);
+
+            AudioFormat format = new AudioFormat(rate, 16, channels, true, false);
+            try (SourceDataLine output = AudioSystem.getSourceDataLine(format)) {
+                output.open(format, CHUNK_FRAMES * format.getFrameSize() * 4);
+                output.start();
+                line = output;
+                byte[] chunk = new byte[CHUNK_FRAMES * format.getFrameSize()];
+
+                if (intro != null) {
+                    write(output, chunk, intro.samples, intro.samples.length);
+                }
+                if (loop != null) {
+                    int fade = crossfadeFrames(loop.frames(), rate);
+                    // the first pass stops where the crossfade begins; every pass after that is
+                    // the blended seam followed by the untouched middle of the loop
+                    write(output, chunk, loop.samples, (loop.frames() - fade) * channels);
+                    short[] period = buildLoopPeriod(loop.samples, channels, fade);
+                    while (!stopped) {
+                        write(output, chunk, period, period.length);
+                    }
+                }
+                if (!stopped) {
+                    output.drain();
+                }
+            } catch (Exception e) {
+                if (!stopped) {
+                    System.err.println("Background music stopped: " + e.getMessage());
+                }
+            } finally {
+                line = null;
             }
         }
-        if (bgm != null) {
-            if (volume == 0.0) {
-                if (bgm.getStatus() == MediaPlayer.Status.PLAYING) bgm.pause();
-                bgm.setVolume(0.0);
-            } else {
-                bgm.setVolume(volume);
-                if (bgm.getStatus() == MediaPlayer.Status.PAUSED && (intro == null || intro.getStatus() != MediaPlayer.Status.PLAYING)) {
-                    bgm.play();
+
+        private void write(SourceDataLine output, byte[] chunk, short[] samples, int length) {
+            int position = 0;
+            while (position < length && !stopped) {
+                double gain = volume;
+                int count = Math.min(length - position, chunk.length / 2);
+                for (int i = 0; i < count; i++) {
+                    int value = (int) Math.round(samples[position + i] * gain);
+                    value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+                    chunk[2 * i] = (byte) value;
+                    chunk[2 * i + 1] = (byte) (value >> 8);
                 }
+                output.write(chunk, 0, count * 2);
+                position += count;
             }
         }
-    }
 
-    public static void stop() {
-        if (intro != null) {
-            try {
-                intro.setOnEndOfMedia(null);
-                intro.stop();
-            } catch (Exception ignored) {}
-            try { intro.dispose(); } catch (Exception ignored) {}
-            intro = null;
+        private static int crossfadeFrames(int loopFrames, float rate) {
+            int fade = (int) (rate * CROSSFADE_MS / 1000);
+            // a loop too short to blend just repeats as is
+            return loopFrames > 2 * fade ? fade : 0;
         }
-        if (bgm != null) {
-            try { bgm.stop(); } catch (Exception ignored) {}
-            try { bgm.dispose(); } catch (Exception ignored) {}
-            bgm = null;
+
+        // [end of loop blended into its start][loop after the blended start, up to the blend]
+        private static short[] buildLoopPeriod(short[] loop, int channels, int fade) {
+            int frames = loop.length / channels;
+            short[] period = new short[(frames - fade) * channels];
+            for (int f = 0; f < fade; f++) {
+                double t = (f + 0.5) / fade;
+                for (int c = 0; c < channels; c++) {
+                    double tail = loop[(frames - fade + f) * channels + c];
+                    double head = loop[f * channels + c];
+                    period[f * channels + c] = (short) Math.round(tail * (1 - t) + head * t);
+                }
+            }
+            System.arraycopy(loop, fade * channels, period, fade * channels, (frames - 2 * fade) * channels);
+            return period;
         }
     }
 }
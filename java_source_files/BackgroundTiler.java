@@ -0,0 +1,76 @@
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+// Build-time tool (process-classes): cuts each level background into the tiles TiledBackground
+// looks for, so the game never has to decode the full image. Each level width must match the
+// one passed to Level. Backgrounds missing from the resources are skipped.
+//   java BackgroundTiler <resources dir> <output dir> <background path> <level width> [<path> <width>...]
+public class BackgroundTiler {
+
+    // world pixels per tile; one screen wide
+    public static final double TILE_WIDTH = 1200;
+
+    public static int tileCount(double levelWidth) {
+        return (int) Math.ceil(levelWidth / TILE_WIDTH);
+    }
+
+    public static double tileStart(int index) {
+        return index * TILE_WIDTH;
+    }
+
+    public static double tileEnd(int index, double levelWidth) {
+        return Math.min((index + 1) * TILE_WIDTH, levelWidth);
+    }
+
+    // "/a/b/Map1.png" -> "/a/b/Map1_tiles"
+    public static String tileDirectory(String sourcePath) {
+        int dot = sourcePath.lastIndexOf('.');
+        return (dot < 0 ? sourcePath : sourcePath.substring(0, dot)) + "_tiles";
+    }
+
+    // The source pixels that a tile covers once the image is stretched to levelWidth
+    public static Rectangle sourceRegion(int index, double levelWidth, int sourceWidth, int sourceHeight) {
+        double pixelsPerUnit = sourceWidth / levelWidth;
+        int x0 = (int) Math.floor(tileStart(index) * pixelsPerUnit);
+        int x1 = Math.min(sourceWidth, (int) Math.ceil(tileEnd(index, levelWidth) * pixelsPerUnit));
+        return new Rectangle(x0, 0, Math.max(1, x1 - x0), sourceHeight);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4 || args.length % 2 != 0) {
+            System.err.println("usage: BackgroundTiler <resources dir> <output dir> <background path> <level width> [<path> <width>...]");
+            System.exit(1);
+        }
+        File resourcesDir = new File(args[0]);
+        File outputRoot = new File(args[1]);
+        for (int i = 2; i < args.length; i += 2) {
+            String backgroundPath = args[i];
+            File source = new File(resourcesDir, backgroundPath);
+            if (!source.isFile()) {
+                System.out.println("Skipping " + backgroundPath + ": not found");
+                continue;
+            }
+            cut(source, new File(outputRoot, tileDirectory(backgroundPath)), Double.parseDouble(args[i + 1]));
+        }
+    }
+
+    private static void cut(File source, File outputDir, double levelWidth) throws Exception {
+        BufferedImage image = ImageIO.read(source);
+        if (image == null) {
+            throw new IllegalArgumentException("not an image: " + source);
+        }
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IllegalStateException("cannot create " + outputDir);
+        }
+
+        int count = tileCount(levelWidth);
+        for (int i = 0; i < count; i++) {
+            Rectangle region = sourceRegion(i, levelWidth, image.getWidth(), image.getHeight());
+            BufferedImage tile = image.getSubimage(region.x, region.y, region.width, region.height);
+            ImageIO.write(tile, "png", new File(outputDir, "tile_" + i + ".png"));
+        }
+        System.out.println("Wrote " + count + " tiles to " + outputDir);
+    }
+}
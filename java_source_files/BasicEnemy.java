@@ -1,9 +1,5 @@
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.geometry.Rectangle2D;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.paint.Color;
-import java.util.ArrayList;
 
 public class BasicEnemy extends Enemy {
 
@@ -11,7 +7,7 @@ public class BasicEnemy extends Enemy {
     private static final double COLLISION_HEIGHT = 115;
     private static final double FIRE_RATE = 1.5;
     private static final double ACTIVATION_DISTANCE = 600;
-    private static final double RUN_SPEED = 1.5;
+    private static final double RUN_SPEED = 90; // pixels per second
     private static final double RUN_DISTANCE = 350; // enemy runs fot these pixel & then shoot
 
     private SpriteAnimation runAnim;
@@ -20,7 +16,6 @@ public class BasicEnemy extends Enemy {
 
     private EnemyState currentState;
     private long lastShotTime;
-    private ArrayList<Bullet> bullets;
 
     private boolean facingRight;
     private boolean isOnScreen;
@@ -31,36 +26,26 @@ public class BasicEnemy extends Enemy {
     public BasicEnemy( double x, double y) {
         super(x, y, 60, RUN_SPEED, 15);
 
-        this.lastShotTime = 0;
-        this.bullets = new ArrayList<>();
+        this.lastShotTime = SimClock.NEVER;
         this.currentState = EnemyState.WAITING;
         this.facingRight = false;
         this.isActive = false;
         this.isOnScreen = false;
         this.hasBeenActivated = false;
         this.distanceTraveled = 0;
-        this.spriteView = new ImageView();
-
         this.scale = 3.5;
-        spriteView.setScaleX(scale);
-        spriteView.setScaleY(scale);
+        setViewScale(scale);
 
         loadAnimations();
     }
 
     private void loadAnimations() {
         try {
-            Image runSheet = new Image(getClass().getResourceAsStream("/Assets/Enemies/Basic Soldier/Run/Run.png"));
-            ArrayList<Rectangle2D> runFrames = SpriteSheetLoader.loadFrames("/Assets/Enemies/Basic Soldier/Run/Run_data.json");
-            runAnim = new SpriteAnimation(spriteView, runSheet, runFrames, 10);
+            runAnim = loadAnimation("/Assets/Enemies/Basic Soldier/Run/Run.png", "/Assets/Enemies/Basic Soldier/Run/Run_data.json", 10);
 
-            Image shootSheet = new Image(getClass().getResourceAsStream("/Assets/Enemies/Basic Soldier/Shoot/Shoot.png"));
-            ArrayList<Rectangle2D> shootFrames = SpriteSheetLoader.loadFrames("/Assets/Enemies/Basic Soldier/Shoot/Shoot_data.json");
-            shootAnim = new SpriteAnimation(spriteView, shootSheet, shootFrames, 10);
+            shootAnim = loadAnimation("/Assets/Enemies/Basic Soldier/Shoot/Shoot.png", "/Assets/Enemies/Basic Soldier/Shoot/Shoot_data.json", 10);
 
-            Image deathSheet = new Image(getClass().getResourceAsStream("/Assets/Enemies/Basic Soldier/Death/Death.png"));
-            ArrayList<Rectangle2D> deathFrames = SpriteSheetLoader.loadFrames("/Assets/Enemies/Basic Soldier/Death/Death_data.json");
-            deathAnim = new SpriteAnimation(spriteView, deathSheet, deathFrames, 12);
+            deathAnim = loadAnimation("/Assets/Enemies/Basic Soldier/Death/Death.png", "/Assets/Enemies/Basic Soldier/Death/Death_data.json", 12);
 
             shootAnim.setToFirstFrame();
 
@@ -72,19 +57,15 @@ public class BasicEnemy extends Enemy {
     }
 
     @Override
-    public void update(double cameraX, double sceneWidth) {
+    public void update(double dt, double cameraX, double sceneWidth) {
         if (!isAlive() && currentState != EnemyState.DYING)
             return;
 
-        // updating teh sprite according to camera
-        spriteView.setX(positionX - cameraX);
-        spriteView.setY(positionY);
-
         double onScreenX = positionX - cameraX;
         isOnScreen = onScreenX > -100 && onScreenX < sceneWidth + 30;
     }
 
-    public void updateBehavior(double playerX ) {
+    public void updateBehavior(double dt, double playerX ) {
         if (!isActive) {
             return;
         }
@@ -110,7 +91,7 @@ public class BasicEnemy extends Enemy {
                 break;
 
             case RUNNING_IN:
-                double moveAmount = speed;
+                double moveAmount = speed * dt;
                 positionX -= moveAmount;
                 distanceTraveled += moveAmount;
                 facingRight = false;
@@ -133,22 +114,25 @@ public class BasicEnemy extends Enemy {
             case DYING:
                 break;
         }
+    }
 
-        spriteView.setScaleX(facingRight ? -Math.abs(scale) : Math.abs(scale));
+    @Override
+    public void captureRenderState(RenderState state) {
+        super.captureRenderState(state);
+        state.setScale(facingRight ? -Math.abs(scale) : Math.abs(scale), state.getScaleY());
     }
 
 
     private void shoot() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getTimeMillis();
         double timeSinceLastShot = (currentTime - lastShotTime) / 450.0;
 
         if (timeSinceLastShot >= FIRE_RATE) {
             double bulletX = facingRight ? positionX + 50 : positionX - 10;
             double bulletY = positionY;
 
-            Bullet bullet = new Bullet(bulletX, bulletY, facingRight, damage, "Enemy");
-            bullet.playSound();
-            bullets.add(bullet);
+            projectiles.spawn(bulletX, bulletY, facingRight, damage, ProjectileSystem.FACTION_ENEMY, this);
+            SfxManager.play(SfxManager.Sound.ENEMY_SHOT);
 
             lastShotTime = currentTime;
         }
@@ -198,21 +182,17 @@ public class BasicEnemy extends Enemy {
                 break;
             case DYING:
                 deathAnim.play();
-                deathSound.play();
+                SfxManager.play(SfxManager.Sound.ENEMY_DEATH);
                 break;
         }
 
     }
 
-    public Rectangle2D getBounds() {
-        return new Rectangle2D(positionX, positionY + Player.COLLISION_OFFSET_Y, COLLISION_WIDTH, COLLISION_HEIGHT);
+    public AABB getBounds() {
+        return bounds.set(positionX, positionY + Player.COLLISION_OFFSET_Y, COLLISION_WIDTH, COLLISION_HEIGHT);
     }
 
 
-    public ArrayList<Bullet> getBullets() {
-        return bullets;
-    }
-
     public boolean shouldActivate(double playerX, double cameraX, double sceneWidth) {
         if (isActive) return false;
 
@@ -0,0 +1,74 @@
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+
+// Presentation side of the ProjectileSystem: recycled ImageViews per faction plus the shared
+// shot images. Bullets of one faction look identical, so the renderer just hands
+// view k to the k-th live bullet each frame and hides whatever is left over.
+public class BulletPool {
+
+    private static final int PREWARM_COUNT = 16;
+
+    private static final ArrayList<ImageView> playerViews = new ArrayList<>();
+    private static final ArrayList<ImageView> enemyViews = new ArrayList<>();
+
+    private static Image playerBulletImage;
+    private static Image enemyBulletImage;
+    private static boolean sharedAssetsLoaded;
+
+    public static void prewarm() {
+        loadSharedAssets();
+        if (Headless.isEnabled()) {
+            return;
+        }
+        for (int i = 0; i < PREWARM_COUNT; i++) {
+            getView(ProjectileSystem.FACTION_PLAYER, i);
+            getView(ProjectileSystem.FACTION_ENEMY, i);
+        }
+    }
+
+    public static ImageView getView(byte faction, int index) {
+        ArrayList<ImageView> views = faction == ProjectileSystem.FACTION_PLAYER ? playerViews : enemyViews;
+        while (views.size() <= index) {
+            views.add(createView(faction));
+        }
+        return views.get(index);
+    }
+
+    // hides every view of the faction from index on; they stay attached for reuse
+    public static void hideFrom(byte faction, int index) {
+        ArrayList<ImageView> views = faction == ProjectileSystem.FACTION_PLAYER ? playerViews : enemyViews;
+        for (int i = index; i < views.size(); i++) {
+            views.get(i).setVisible(false);
+        }
+    }
+
+    public static Image getImage(byte faction) {
+        loadSharedAssets();
+        return faction == ProjectileSystem.FACTION_PLAYER ? playerBulletImage : enemyBulletImage;
+    }
+
+    public static double getScale(byte faction) {
+        return faction == ProjectileSystem.FACTION_PLAYER ? 2 : 2.2;
+    }
+
+    private static ImageView createView(byte faction) {
+        double scale = getScale(faction);
+        ImageView view = new ImageView(getImage(faction));
+        view.setScaleX(scale);
+        view.setScaleY(scale);
+        view.setVisible(false);
+        return view;
+    }
+
+    private static void loadSharedAssets() {
+        if (sharedAssetsLoaded || Headless.isEnabled()) {
+            return;
+        }
+        sharedAssetsLoaded = true;
+        // held for the lifetime of the game, so these are never released back to the cache
+        playerBulletImage = AssetCache.acquireImage("/Assets/Player/bullet.png");
+        enemyBulletImage = AssetCache.acquireImage("/Assets/Enemies/EnemyBullet.png");
+    }
+}
@@ -0,0 +1,99 @@
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+// Immediate-mode renderer for RenderMode.CANVAS. Every sprite is drawn straight from the frame's
+// RenderSnapshot (image, viewport, scale and interpolated position, offsets included) into one
+// Canvas, in the order the scene graph would stack it. Entities never get an ImageView here.
+public class CanvasRenderer {
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+
+    public CanvasRenderer(double width, double height) {
+        canvas = new Canvas(width, height);
+        gc = canvas.getGraphicsContext2D();
+        gc.setImageSmoothing(false);
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public void render(RenderSnapshot snapshot, TiledBackground background, double cameraX, double alpha) {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        background.draw(gc, cameraX, canvas.getWidth());
+
+        // sprites are in world coordinates, the camera is one transform
+        gc.save();
+        gc.translate(-cameraX, 0);
+
+        drawEntity(snapshot.getPlayer(), alpha);
+
+        // same window as the scene graph's VisibilityManager; nothing far off screen is drawn
+        for (int i = 0; i < snapshot.getEnemyCount(); i++) {
+            drawIfNearView(snapshot.getEnemy(i), cameraX, alpha);
+        }
+        for (int i = 0; i < snapshot.getPowCount(); i++) {
+            drawIfNearView(snapshot.getPow(i), cameraX, alpha);
+        }
+
+        drawProjectiles(snapshot, alpha);
+        gc.restore();
+    }
+
+    private void drawIfNearView(RenderState state, double cameraX, double alpha) {
+        double x = state.getX();
+        if (VisibilityManager.isInWindow(x, x, cameraX, canvas.getWidth())) {
+            drawEntity(state, alpha);
+        }
+    }
+
+    // ImageView scales around its centre, so do the same; negative scaleX is a horizontal flip
+    private void drawEntity(RenderState state, double alpha) {
+        Image image = state.getImage();
+        if (image == null) {
+            return;
+        }
+        Rectangle2D viewport = state.getViewport();
+        double sx = viewport != null ? viewport.getMinX() : 0;
+        double sy = viewport != null ? viewport.getMinY() : 0;
+        double sw = viewport != null ? viewport.getWidth() : image.getWidth();
+        double sh = viewport != null ? viewport.getHeight() : image.getHeight();
+
+        double centerX = state.interpolateX(alpha) + sw / 2;
+        double centerY = state.interpolateY(alpha) + sh / 2;
+        double scaleX = state.getScaleX();
+        double scaleY = state.getScaleY();
+
+        if (scaleX > 0) {
+            double dw = sw * scaleX;
+            double dh = sh * scaleY;
+            gc.drawImage(image, sx, sy, sw, sh, centerX - dw / 2, centerY - dh / 2, dw, dh);
+            return;
+        }
+        gc.save();
+        gc.translate(centerX, centerY);
+        gc.scale(scaleX, scaleY);
+        gc.drawImage(image, sx, sy, sw, sh, -sw / 2, -sh / 2, sw, sh);
+        gc.restore();
+    }
+
+    private void drawProjectiles(RenderSnapshot snapshot, double alpha) {
+        for (int i = 0; i < snapshot.getProjectileCount(); i++) {
+            byte faction = snapshot.getProjectileFaction(i);
+            Image image = BulletPool.getImage(faction);
+            if (image == null) continue;
+
+            double scale = BulletPool.getScale(faction);
+            double w = image.getWidth();
+            double h = image.getHeight();
+            double x = snapshot.getProjectileX(i, alpha);
+            double y = snapshot.getProjectileY(i);
+
+            gc.drawImage(image, x + w / 2 - w * scale / 2, y + h / 2 - h * scale / 2, w * scale, h * scale);
+        }
+    }
+}
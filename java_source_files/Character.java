@@ -1,9 +1,9 @@
-import java.util.ArrayList;
-
 public abstract class Character extends GameObjects implements Damageable {
     protected int health;
     protected int maxHealth;
     protected double speed;
+    protected SimClock clock;
+    protected ProjectileSystem projectiles;
 
     public Character(double x, double y, int health, double speed) {
         super(x, y);
@@ -12,6 +12,14 @@ public abstract class Character extends GameObjects implements Damageable {
         this.speed = speed;
     }
 
+    public void setClock(SimClock clock) {
+        this.clock = clock;
+    }
+
+    public void setProjectiles(ProjectileSystem projectiles) {
+        this.projectiles = projectiles;
+    }
+
     // Methodzz of Damageable Interface :o ;)
     public void takeDamage(int damage) {
         this.health -= damage;
@@ -39,8 +47,4 @@ public abstract class Character extends GameObjects implements Damageable {
         return speed;
     }
 
-    public ArrayList<Bullet> getBullets() {
-        return null;
-    }
-
 }
@@ -1,89 +1,89 @@
-import javafx.geometry.Rectangle2D;
 import java.util.ArrayList;
 
 public class CollisionManager {
 
-    public static void checkBulletCollisions(Player player, ArrayList<Enemy> enemies, double cameraX, double sceneWidth) {
+    // big enough that an enemy spans at most a couple of cells
+    private static final double GRID_CELL_SIZE = 128;
+
+    private static final SpatialGrid<Enemy> enemyGrid = new SpatialGrid<>(GRID_CELL_SIZE);
+    private static final ArrayList<Enemy> nearbyEnemies = new ArrayList<>();
+    private static final AABB bulletBounds = new AABB();
+
+    public static void setWorldBounds(double worldWidth, double worldHeight) {
+        enemyGrid.resize(worldWidth, worldHeight);
+    }
+
+    public static void checkBulletCollisions(ProjectileSystem projectiles, Player player, ArrayList<Enemy> enemies, double cameraX, double sceneWidth) {
         // Check player bullets hitting enemiezz
 
-        ArrayList<Bullet> playerBullets = player.getBullets();
-        for (int i = playerBullets.size() - 1; i >= 0; i--) {
-            Bullet bullet = playerBullets.get(i);
-            if (!bullet.isActive()) continue;
+        enemyGrid.clear();
+        for (Enemy enemy : enemies) {
+            if (enemy.isDead() || !enemy.isActive()) continue;
+            enemyGrid.insert(enemy, enemy.getBounds());
+        }
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.getFaction(i) != ProjectileSystem.FACTION_PLAYER || !projectiles.isAlive(i)) continue;
 
-            Rectangle2D bulletBounds = bullet.getBounds();
+            projectiles.getBounds(i, bulletBounds);
+            enemyGrid.query(bulletBounds, nearbyEnemies);
 
-            for (Enemy enemy : enemies) {
-                if (enemy.isDead() || !enemy.isActive()) continue;
+            for (Enemy enemy : nearbyEnemies) {
+                if (enemy.isDead()) continue;
 
-                Rectangle2D enemyBounds = enemy.getBounds();
+                AABB enemyBounds = enemy.getBounds();
 
                 if (bulletBounds.intersects(enemyBounds)) {
                     // Check if enemy can be damaged
                     if (enemy instanceof ShieldedEnemy) {
                         ShieldedEnemy shielded = (ShieldedEnemy) enemy;
                         if (shielded.isVulnerable()) {
-                            enemy.takeDamage(bullet.getDamage());
-                            bullet.deactivate();
-                        } else {
-                            bullet.deactivate();
+                            enemy.takeDamage(projectiles.getDamage(i));
                         }
                     } else {
-                        enemy.takeDamage(bullet.getDamage());
-                        bullet.deactivate();
+                        enemy.takeDamage(projectiles.getDamage(i));
                     }
+                    projectiles.kill(i);
                     break;
                 }
             }
         }
 
         // ANYONE => Check if enemy bullets hitting player ( ONLY IF ENEMY AND BULLET ARE ON SCREEN )
+        // one player, so a straight pass over the packed arrays beats any broadphase here
 
-        for (Enemy enemy : enemies) {
-            if (enemy.isDead() || !enemy.isActive()) continue;
+        AABB playerBounds = player.getBounds();
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.getFaction(i) != ProjectileSystem.FACTION_ENEMY || !projectiles.isAlive(i)) continue;
 
-            if (enemy instanceof BasicEnemy) {
-                BasicEnemy basicEnemy = (BasicEnemy) enemy;
+            double bulletScreenX = projectiles.getX(i) - cameraX;
+            boolean bulletOnScreen = bulletScreenX > -100 && bulletScreenX < sceneWidth + 100;
+            if (!bulletOnScreen) continue;
 
-                if (!basicEnemy.isOnScreen()) {
+            Character shooter = projectiles.getOwner(i);
+            if (shooter instanceof BasicEnemy) {
+                BasicEnemy basicEnemy = (BasicEnemy) shooter;
+                if (basicEnemy.isDead() || !basicEnemy.isActive() || !basicEnemy.isOnScreen()) {
                     continue; // Skip collision if enemy is off screen
                 }
+            }
 
-                ArrayList<Bullet> enemyBullets = basicEnemy.getBullets();
-
-                for (int i = enemyBullets.size() - 1; i >= 0; i--) {
-                    Bullet bullet = enemyBullets.get(i);
-                    if (!bullet.isActive()) continue;
-
-                    double bulletScreenX = bullet.getPositionX() - cameraX;
-                    boolean bulletOnScreen = bulletScreenX > -100 && bulletScreenX < sceneWidth + 100;
-
-                    if (!bulletOnScreen) {
-                        continue;
-                    }
-
-                    Rectangle2D bulletBounds = bullet.getBounds();
-                    Rectangle2D playerBounds = player.getBounds();
-
-                    if (bulletBounds.intersects(playerBounds)) {
-                        player.takeDamage(bullet.getDamage());
-                        bullet.deactivate();
-                        break;
-                    }
-                }
+            if (projectiles.getBounds(i, bulletBounds).intersects(playerBounds)) {
+                player.takeDamage(projectiles.getDamage(i));
+                projectiles.kill(i);
             }
         }
     }
 
     public static void checkMeleeCollisions(Player player, ArrayList<Enemy> enemies) {
-        Rectangle2D playerBounds = player.getBounds();
+        AABB playerBounds = player.getBounds();
 
         for (Enemy enemy : enemies) {
             if (enemy.isDead() || !enemy.isActive()) continue;
 
             if (enemy instanceof ShieldedEnemy) {
                 ShieldedEnemy shielded = (ShieldedEnemy) enemy;
-                Rectangle2D enemyBounds = shielded.getMeeleBounds();
+                AABB enemyBounds = shielded.getMeeleBounds();
 
                 if (playerBounds.intersects(enemyBounds)) {
 
@@ -0,0 +1,51 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+// Every sprite sheet's frame rectangles, compiled ahead of time by FrameTableCompiler into
+// /Assets/frames.bin and read with a single read on first use. Each entry is the resource path
+// of the original JSON mapped to x, y, width, height quadruples.
+public class FrameTable {
+
+    public static final String RESOURCE = "/Assets/frames.bin";
+    public static final int MAGIC = 0x46524D31; // "FRM1"
+
+    // loaded once, on whichever thread asks first
+    private static class Holder {
+        static final HashMap<String, int[]> TABLE = load();
+    }
+
+    // null when the table is missing or does not list the path
+    public static int[] get(String resourcePath) {
+        return Holder.TABLE.get(resourcePath);
+    }
+
+    private static HashMap<String, int[]> load() {
+        HashMap<String, int[]> table = new HashMap<>();
+        try (InputStream in = FrameTable.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return table;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(in.readAllBytes());
+            if (buffer.getInt() != MAGIC) {
+                System.err.println("Ignoring " + RESOURCE + ": not a frame table");
+                return table;
+            }
+            int entryCount = buffer.getInt();
+            for (int i = 0; i < entryCount; i++) {
+                byte[] pathBytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(pathBytes);
+                int[] frames = new int[buffer.getInt() * 4];
+                buffer.asIntBuffer().get(frames);
+                buffer.position(buffer.position() + frames.length * 4);
+                table.put(new String(pathBytes, StandardCharsets.UTF_8), frames);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to read " + RESOURCE + ": " + e.getMessage());
+            table.clear();
+        }
+        return table;
+    }
+}
@@ -0,0 +1,66 @@
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Build-time tool: compiles every sprite frame JSON under a resources directory into the binary
+// table FrameTable reads at startup. Run by the game module's build at process-classes:
+//   java FrameTableCompiler resources game/target/classes/Assets/frames.bin
+public class FrameTableCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: FrameTableCompiler <resourcesDir> <output.bin>");
+            System.exit(1);
+        }
+        Path root = new File(args[0]).toPath();
+        File output = new File(args[1]);
+
+        List<Path> jsonFiles;
+        try (Stream<Path> files = Files.walk(root)) {
+            jsonFiles = files.filter(p -> p.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+
+        ArrayList<String> paths = new ArrayList<>();
+        ArrayList<int[]> tables = new ArrayList<>();
+        for (Path json : jsonFiles) {
+            // keys match the classpath resource paths the game asks for
+            String resourcePath = "/" + root.relativize(json).toString().replace(File.separatorChar, '/');
+            int[] frames = SpriteSheetLoader.parseFrames(resourcePath, Files.newInputStream(json));
+            if (frames == null) {
+                System.out.println("Skipping " + resourcePath + ": no sprites array");
+                continue;
+            }
+            paths.add(resourcePath);
+            tables.add(frames);
+        }
+
+        File parent = output.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("cannot create " + parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+            out.writeInt(FrameTable.MAGIC);
+            out.writeInt(paths.size());
+            for (int i = 0; i < paths.size(); i++) {
+                byte[] pathBytes = paths.get(i).getBytes(StandardCharsets.UTF_8);
+                out.writeShort(pathBytes.length);
+                out.write(pathBytes);
+                int[] frames = tables.get(i);
+                out.writeInt(frames.length / 4);
+                for (int value : frames) {
+                    out.writeInt(value);
+                }
+            }
+        }
+        System.out.println("Wrote " + paths.size() + " frame tables (" + output.length() + " bytes) to " + output);
+    }
+}
@@ -1,42 +1,87 @@
 import javafx.animation.AnimationTimer;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 
+// Window side of the game: owns the scene graph, the frame loop and input.
+// All gameplay runs in GameSimulation; this class only feeds it input and draws RenderSnapshots
+// of its state. The simulation ticks inside the FX pulse, or with -Dsim.thread=true on its own
+// SimulationThread, in which case update() runs there and the pulse only draws.
 public class GameEngine extends Pane{
 
-    private final double SCENE_WIDTH = 1200;
-    private final double SCENE_HEIGHT = 750;
-
-    private double cameraX;
-    private Player player;
-    private LevelManager levelManager;
+    private final double SCENE_WIDTH = GameSimulation.VIEW_WIDTH;
+    private final double SCENE_HEIGHT = GameSimulation.VIEW_HEIGHT;
+
+    // simulation runs in fixed steps independent of the display refresh rate
+    private static final int MAX_TICKS_PER_FRAME = 8;
+
+    private double accumulator;
+    private long lastFrameTime;
+
+    private GameSimulation simulation;
+    private final RenderMode renderMode;
+    private final boolean simulationThreaded;
+    private SimulationThread simulationThread;
+    // single-threaded mode captures into this one right before drawing
+    private final RenderSnapshot snapshot = new RenderSnapshot();
+    // enemies whose views should go, handed over from whichever thread steps the simulation
+    private final ConcurrentLinkedQueue<Enemy> despawnedViews = new ConcurrentLinkedQueue<>();
+    private CanvasRenderer canvasRenderer;
+    // every entity node, in world coordinates; the camera only moves this group
+    private final Group world = new Group();
+    // layers keep the original stacking order while culled nodes come and go
+    private final Group platformLayer = new Group();
+    private final Group enemyLayer = new Group();
+    private final Group powLayer = new Group();
+    private final Group projectileLayer = new Group();
+    private final VisibilityManager visibility = new VisibilityManager();
+    private boolean disposed;
     private InputManager inputManager;
-    private ArrayList<Enemy> enemies;
-    private ArrayList<POW> pow;
+    private final InputState inputState = new InputState();
     private AnimationTimer gameloop;
-    private boolean isPaused;
+    private volatile boolean isPaused;
     private javafx.stage.Stage stage;
     private boolean escapePressed;
+    // -Dinput.record=<file> saves every tick's input on dispose; -Dinput.replay=<file> plays one back
+    private final String recordPath = System.getProperty("input.record", "");
+    private InputRecording recording;
+    private InputRecording replay;
+    private int replayTick;
 
     public GameEngine(){
-        cameraX = 0;
-        isPaused = false;
-        setPrefSize(SCENE_WIDTH,SCENE_HEIGHT);
-
-        levelManager = new LevelManager();
-        Level currentLevel = levelManager.getCurrentLevel();
-
-        player = new Player(currentLevel.getPlayerStartX(),currentLevel.getPlayerStartY() , currentLevel.getLevelWidth());
+        this(RenderMode.fromSystemProperty());
+    }
 
-        getChildren().addAll(currentLevel.getBackground() , player.getSpriteView());
+    public GameEngine(RenderMode renderMode){
+        this(createSimulation(), renderMode);
+    }
 
+    // Takes a simulation that was already built, e.g. by a LevelLoadTask; must run on the FX thread
+    public GameEngine(GameSimulation simulation, RenderMode renderMode){
+        this.renderMode = renderMode;
+        this.simulation = simulation;
+        this.simulationThreaded = Boolean.getBoolean("sim.thread");
+        isPaused = false;
+        setupInputRecording();
+        setPrefSize(SCENE_WIDTH,SCENE_HEIGHT);
 
-        enemies = new ArrayList<>();
-        pow = new ArrayList<>();
-        addLevelPlatforms(currentLevel);
-        addLevelEnemies(currentLevel);
-        addLevelPOW(currentLevel);
+        Level currentLevel = simulation.getCurrentLevel();
+
+        if (renderMode == RenderMode.CANVAS) {
+            // no entity views are created; the canvas is the only node
+            canvasRenderer = new CanvasRenderer(SCENE_WIDTH, SCENE_HEIGHT);
+            getChildren().add(canvasRenderer.getCanvas());
+        } else {
+            getChildren().add(world);
+            world.getChildren().addAll(currentLevel.getBackground().getNode() , simulation.getPlayer().getSpriteView(),
+                    platformLayer, enemyLayer, powLayer, projectileLayer);
+            addLevelNodes(currentLevel);
+        }
 
         setupGameLoop();
     }
@@ -49,91 +94,146 @@ public class GameEngine extends Pane{
         this.stage = stage;
     }
 
-    private void addLevelPlatforms(Level currentLevel){
-        ArrayList<GameObjects> entities = currentLevel.getGameObjects();
-        for( GameObjects entity : entities){
-            if(entity instanceof Platform){
-                Platform platform = (Platform) entity;
-                getChildren().add(platform.getCollisionBox());
-            }
-        }
+    // Lower on weak machines; movement is in units per second so game speed does not change.
+    // With the simulation thread, call it while paused
+    public void setTickRate(int ticksPerSecond) {
+        simulation.setTickRate(ticksPerSecond);
     }
 
-    private void addLevelEnemies(Level currentLevel){
-        ArrayList<GameObjects> entities = currentLevel.getGameObjects();
-        for( GameObjects entity : entities){
-            if(entity instanceof Enemy){
-                Enemy enemy = (Enemy) entity;
-                enemies.add(enemy);
-                getChildren().add(enemy.getSpriteView());
-
-                // Add hitbox rectangles p-)
-                if(enemy instanceof BasicEnemy){
-                    BasicEnemy basic = (BasicEnemy) enemy;
-                } else if(enemy instanceof ShieldedEnemy){
-                    ShieldedEnemy shielded = (ShieldedEnemy) enemy;
+    public SimClock getSimClock() {
+        return simulation.getSimClock();
+    }
+
+    // both need the simulation untouched: a replay only reproduces a run from its first tick
+    private void setupInputRecording() {
+        String replayPath = System.getProperty("input.replay", "");
+        if (!replayPath.isEmpty()) {
+            try {
+                replay = InputRecording.load(Paths.get(replayPath));
+                simulation.setTickRate(replay.getTickRate());
+                // runs before any level node is added, so only the simulation has to switch
+                if (replay.getLevel() != simulation.getCurrentLevelNumber()) {
+                    simulation.changeLevel(replay.getLevel());
+                }
+                if (replay.getTickCount() == 0) {
+                    replay = null;
                 }
+            } catch (IOException e) {
+                System.err.println("Could not load replay " + replayPath + ": " + e.getMessage());
+                replay = null;
             }
         }
+        if (!recordPath.isEmpty()) {
+            recording = new InputRecording(simulation.getCurrentLevelNumber(), simulation.getSimClock().getTickRate());
+        }
     }
 
-    private void addLevelPOW(Level currentLevel){
+    private static GameSimulation createSimulation(){
+        BulletPool.prewarm();
+        SfxManager.load();
+        return new GameSimulation();
+    }
+
+    // each kind goes to its own layer, and the layers keep the stacking order
+    private void addLevelNodes(Level currentLevel){
         ArrayList<GameObjects> entities = currentLevel.getGameObjects();
         for( GameObjects entity : entities){
-            if(entity instanceof POW){
-                POW prisoner = (POW) entity;
-                pow.add(prisoner);
-                getChildren().add(prisoner.getSpriteView());
+            if(entity instanceof Platform){
+                Platform platform = (Platform) entity;
+                AABB box = platform.getBounds();
+                visibility.trackStatic(platform.getCollisionBox(), platformLayer, box.getMinX(), box.getMaxX());
+            } else if(entity instanceof Enemy){
+                visibility.track(entity, enemyLayer);
+            } else if(entity instanceof POW){
+                visibility.track(entity, powLayer);
             }
         }
     }
 
     public void changeLevel(int levelNumber){
-        getChildren().remove(levelManager.getCurrentLevel().getBackground());
+        // the old thread's snapshots still point at the old level's entities
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
+        despawnedViews.clear();
 
-        Level oldLevel = levelManager.getCurrentLevel();
-        ArrayList<GameObjects> entities = oldLevel.getGameObjects();
-        for (GameObjects entity : entities) {
-            if (entity instanceof Platform) {
-                Platform platform = (Platform) entity;
-                getChildren().remove(platform.getCollisionBox());
-            }
-            if (entity instanceof Enemy) {
-                Enemy enemy = (Enemy) entity;
-                getChildren().remove(enemy.getSpriteView());
-
-                // Remove hitboxes ;(
-                if (enemy instanceof BasicEnemy) {
-                    BasicEnemy basic = (BasicEnemy) enemy;
-                } else if (enemy instanceof ShieldedEnemy) {
-                    ShieldedEnemy shielded = (ShieldedEnemy) enemy;
-                }
+        if (renderMode == RenderMode.CANVAS) {
+            simulation.changeLevel(levelNumber);
+        } else {
+            Level oldLevel = simulation.getCurrentLevel();
+            world.getChildren().remove(oldLevel.getBackground().getNode());
+            visibility.clear();
 
-            }
-            if (entity instanceof POW) {
-                POW prisoner = (POW) entity;
-                getChildren().remove(prisoner.getSpriteView());
-            }
-        }
+            simulation.changeLevel(levelNumber);
 
-        enemies.clear();
+            Level currentLevel = simulation.getCurrentLevel();
+            world.getChildren().add(0, currentLevel.getBackground().getNode());
+            addLevelNodes(currentLevel);
+        }
 
-        levelManager.loadLevel(levelNumber);
-        Level currentLevel = levelManager.getCurrentLevel();
-        getChildren().add(currentLevel.getBackground());
-        addLevelPlatforms(currentLevel);
-        addLevelEnemies(currentLevel);
-        addLevelPOW(currentLevel);
+        if (simulationThread != null) {
+            startSimulationThread();
+        }
+    }
 
-        player.setPosition(currentLevel.getPlayerStartX(), currentLevel.getPlayerStartY() ,  currentLevel.getLevelWidth() , 0);
-        cameraX = 0;
+    private void startSimulationThread() {
+        simulationThread = new SimulationThread(simulation, this::update);
+        simulationThread.setPaused(isPaused);
+        simulationThread.start();
     }
 
     private void setupGameLoop() {
+        if (simulationThreaded) {
+            gameloop = new AnimationTimer() {
+                public void handle(long now) {
+                    if (isPaused) {
+                        return;
+                    }
+                    // started on the first pulse, once the input manager has been set
+                    if (simulationThread == null) {
+                        startSimulationThread();
+                    }
+                    // the latest finished tick, drawn as far past it as the pulse is
+                    RenderSnapshot latest = simulationThread.takeSnapshot();
+                    double tickNanos = simulation.getSimClock().getTickSeconds() * 1_000_000_000L;
+                    double alpha = (now - latest.getTickTimeNanos()) / tickNanos;
+                    render(latest, Math.max(0, Math.min(1, alpha)));
+                }
+            };
+            gameloop.start();
+            return;
+        }
+
         gameloop = new AnimationTimer() {
             public void handle(long now) {
+                if (isPaused) {
+                    lastFrameTime = 0;
+                    return;
+                }
+                if (lastFrameTime == 0) {
+                    lastFrameTime = now;
+                }
+                accumulator += (now - lastFrameTime) / 1_000_000_000.0;
+                lastFrameTime = now;
+
+                double tickSeconds = simulation.getSimClock().getTickSeconds();
+                int ticks = 0;
+                while (accumulator >= tickSeconds && !isPaused) {
+                    if (ticks == MAX_TICKS_PER_FRAME) {
+                        // too far behind (stall, debugger...) so drop the backlog instead of spiralling
+                        accumulator = 0;
+                        break;
+                    }
+                    // the wall-clock moment this tick stands for; later key events wait for the next tick
+                    long tickDeadline = now - (long) ((accumulator - tickSeconds) * 1_000_000_000L);
+                    update(tickDeadline);
+                    accumulator -= tickSeconds;
+                    ticks++;
+                }
+
                 if (!isPaused) {
-                    update();
+                    snapshot.capture(simulation, now - (long) (accumulator * 1_000_000_000L));
+                    render(snapshot, accumulator / tickSeconds);
                 }
             }
         };
@@ -142,19 +242,58 @@ public class GameEngine extends Pane{
 
     public void pauseGame() {
         isPaused = true;
+        if (simulationThread != null) {
+            simulationThread.setPaused(true);
+        }
     }
 
     public void resumeGame() {
         isPaused = false;
+        if (simulationThread != null) {
+            simulationThread.setPaused(false);
+        }
     }
 
-    public void stopGame() {
+    // Stops the loop, empties the scene and disposes the simulation. Everything is released before
+    // this returns, so a new engine can be built straight away; safe to call more than once
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
         if (gameloop != null) {
             gameloop.stop();
         }
-        Level currentLevel = levelManager.getCurrentLevel();
-        if (currentLevel != null) {
-            currentLevel.stopMusic();
+        // the simulation is only safe to dispose once its thread has finished the current tick
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
+        SfxManager.stopAll();
+        saveInputRecording();
+        // latency figures stay on the InputManager getters unless asked for with -Dinput.stats=true
+        if (Boolean.getBoolean("input.stats") && inputManager != null && inputManager.getLatencySamples() > 0) {
+            System.out.printf("Input latency: avg %.2f ms, max %.2f ms over %d events, %d dropped%n",
+                    inputManager.getAverageLatencyMillis(), inputManager.getMaxLatencyMillis(),
+                    inputManager.getLatencySamples(), inputManager.getDroppedEvents());
+        }
+        visibility.clear();
+        despawnedViews.clear();
+        projectileLayer.getChildren().clear();
+        world.getChildren().clear();
+        getChildren().clear();
+        simulation.dispose();
+    }
+
+    private void saveInputRecording() {
+        if (recording == null) {
+            return;
+        }
+        recording.setChecksum(simulation.checksum());
+        try {
+            recording.save(Paths.get(recordPath));
+            System.out.printf("Recorded %d ticks of input to %s%n", recording.getTickCount(), recordPath);
+        } catch (IOException e) {
+            System.err.println("Could not save input recording " + recordPath + ": " + e.getMessage());
         }
     }
 
@@ -169,164 +308,121 @@ public class GameEngine extends Pane{
     }
 
     public void updateVolume() {
-        Level currentLevel = levelManager.getCurrentLevel();
+        Level currentLevel = simulation.getCurrentLevel();
         if (currentLevel != null) {
             currentLevel.updateVolume();
         }
-        if (player != null) {
-            player.updateSoundVolume();
-        }
-        for (Enemy enemy : enemies) {
-            enemy.updateSoundVolume();
-        }
+        // sound effects pick up the new volume on their next play
     }
 
-    private void update() {
-        if (inputManager.isEscape() && !escapePressed) {
+    // One tick: input, step and despawn hand-off. Runs on the FX thread or the simulation
+    // thread, never both, and touches no nodes
+    private void update(long tickDeadline) {
+        inputManager.pollUntil(tickDeadline, inputState);
+        boolean escape = inputState.isActive(InputAction.PAUSE);
+        if (escape && !escapePressed) {
             escapePressed = true;
-            showPauseMenu();
+            inputState.endTick();
+            if (simulationThread != null) {
+                // stop ticking right away; the menu itself has to be built on the FX thread
+                simulationThread.setPaused(true);
+                javafx.application.Platform.runLater(this::showPauseMenu);
+            } else {
+                showPauseMenu();
+            }
             return;
         }
-        if (!inputManager.isEscape()) {
+        if (!escape) {
             escapePressed = false;
         }
 
-        player.setLeftPressed(inputManager.isLeft());
-        player.setRightPressed(inputManager.isRight());
-        player.setJumpPressed(inputManager.isJump());
-        player.setCrouchPressed(inputManager.isCrouch());
-        player.setShootPressed(inputManager.isShoot());
-
-        player.update(cameraX ,SCENE_WIDTH);
-
-        PhysicsManager.updatePlayer(player, levelManager.getCurrentLevel());
-
-        updateEnemies();
-        CollisionManager.checkBulletCollisions(player, enemies, cameraX, SCENE_WIDTH);
-        CollisionManager.checkMeleeCollisions(player, enemies);
-
-        updatePOW();
-
-        updatePlatforms();
-        updateAllBullets();
-        updateCamera();
-    }
-
-    private void updateCamera() {
-        double targetCameraX = player.getPositionX() - SCENE_WIDTH / 3.5;
+        Player player = simulation.getPlayer();
+        int mask;
+        if (replay != null) {
+            // the replay drives the player; live keys can still pause
+            mask = replay.getMask(replayTick++);
+            InputRecording.applyMask(mask, player);
+        } else {
+            mask = InputRecording.maskOf(inputState);
+            inputState.applyTo(player);
+        }
+        inputState.endTick();
+        if (recording != null) {
+            recording.append(mask);
+        }
 
-        if(targetCameraX > cameraX) {
-            double minCameraX = 0;
-            double maxCameraX = (levelManager.getCurrentLevel().getLevelWidth() - 20) - SCENE_WIDTH;
+        simulation.step();
 
-            cameraX = Math.max(minCameraX, Math.min(targetCameraX, maxCameraX));
+        if (replay != null && replayTick == replay.getTickCount()) {
+            long checksum = simulation.checksum();
+            System.out.printf("Replay finished after %d ticks, checksum %016x %s%n", replayTick, checksum,
+                    checksum == replay.getChecksum() ? "matches the recording" : "differs from the recording");
+            // back to live input from here
+            replay = null;
         }
 
-        levelManager.getCurrentLevel().getBackground().setTranslateX(-cameraX);
-        player.getSpriteView().setX(player.getPositionX() - cameraX);
+        ArrayList<Enemy> despawned = simulation.getDespawned();
+        despawnedViews.addAll(despawned);
+        despawned.clear();
     }
 
-    private void updatePlatforms() {
-        Level currentLevel = levelManager.getCurrentLevel();
-        ArrayList<GameObjects> entities = currentLevel.getGameObjects();
-        for (GameObjects entity : entities) {
-            if (entity instanceof Platform) {
-                entity.update(cameraX ,SCENE_WIDTH);
-            }
+    // FX thread only; reads nothing but the snapshot and the level's background
+    private void render(RenderSnapshot frame, double alpha) {
+        Enemy despawned;
+        while ((despawned = despawnedViews.poll()) != null) {
+            visibility.untrack(despawned);
         }
-    }
 
-    private void updateEnemies() {
-        for (int i = enemies.size() - 1; i >= 0; i--) {
-            Enemy enemy = enemies.get(i);
+        double renderCameraX = frame.getCameraX(alpha);
+        TiledBackground background = simulation.getCurrentLevel().getBackground();
+        background.update(renderCameraX, SCENE_WIDTH);
 
-            if (!enemy.isActive() && shouldActivate(enemy)) {
-                enemy.setActive(true);
-            }
-
-            enemy.update(cameraX, SCENE_WIDTH);
-
-            if (enemy.isActive()) {
-                if (enemy instanceof BasicEnemy) {
-                    BasicEnemy basic = (BasicEnemy) enemy;
-                    basic.updateBehavior(player.getPositionX());
-                } else if (enemy instanceof ShieldedEnemy) {
-                    ShieldedEnemy shielded = (ShieldedEnemy) enemy;
-                    shielded.updateBehavior(player);
-                }
-            }
-
-            if (enemy.isDead()) {
-                boolean readyToRemove = enemy.isReadyToRemove();
-                if (!readyToRemove) {
-                    continue;
-                }
-                if(enemy instanceof BasicEnemy){
-                    BasicEnemy basic = (BasicEnemy) enemy;
-                    ArrayList<Bullet> enemyBullets = basic.getBullets();
-
-                    for (Bullet bullet : enemyBullets) {
-                        getChildren().remove(bullet.getBulletImage());
-                    }
-                    enemyBullets.clear();
+        if (renderMode == RenderMode.CANVAS) {
+            canvasRenderer.render(frame, background, renderCameraX, alpha);
+            return;
+        }
 
-                } else if(enemy instanceof ShieldedEnemy){
-                    ShieldedEnemy shielded = (ShieldedEnemy) enemy;
-                }
+        // background and platforms never move inside the world, only the world does
+        world.setTranslateX(-renderCameraX);
+        visibility.update(renderCameraX, SCENE_WIDTH);
+        RenderState player = frame.getPlayer();
+        player.getOwner().applyRenderState(player, alpha);
 
-                getChildren().remove(enemy.getSpriteView());
-                enemies.remove(i);
-            }
+        for (int i = 0; i < frame.getEnemyCount(); i++) {
+            renderEntity(frame.getEnemy(i), renderCameraX, alpha);
         }
-    }
-
-    private boolean shouldActivate(Enemy enemy) {
-        if (enemy instanceof BasicEnemy) {
-            BasicEnemy basic = (BasicEnemy) enemy;
-            return basic.shouldActivate(player.getPositionX(), cameraX, SCENE_WIDTH);
-        } else if (enemy instanceof ShieldedEnemy) {
-            ShieldedEnemy shielded = (ShieldedEnemy) enemy;
-            return shielded.shouldActivate(player.getPositionX(), cameraX, SCENE_WIDTH);
+        for (int i = 0; i < frame.getPowCount(); i++) {
+            renderEntity(frame.getPow(i), renderCameraX, alpha);
         }
-        return false;
+        renderProjectiles(frame, alpha);
     }
 
-    private void updateAllBullets() {
-        ArrayList<Character> shooters = new ArrayList<>();
-        shooters.add(player);
-
-        for (Enemy enemy : enemies) {
-            if (enemy instanceof BasicEnemy) {
-                shooters.add(enemy);
-            }
-        }
-
-        for (Character shooter : shooters) {
-            updateBulletsForEntity(shooter.getBullets());
+    private void renderEntity(RenderState state, double cameraX, double alpha) {
+        GameObjects owner = state.getOwner();
+        if (visibility.updateEntity(owner, state.getX(), cameraX, SCENE_WIDTH)) {
+            owner.applyRenderState(state, alpha);
         }
     }
 
-    private void updateBulletsForEntity(ArrayList<Bullet> bullets) {
-        for (Bullet bullet : bullets) {
-            if (!getChildren().contains(bullet.getBulletImage())) {
-                getChildren().add(bullet.getBulletImage());
+    private void renderProjectiles(RenderSnapshot frame, double alpha) {
+        int playerShots = 0;
+        int enemyShots = 0;
+
+        for (int i = 0; i < frame.getProjectileCount(); i++) {
+            byte faction = frame.getProjectileFaction(i);
+            int viewIndex = faction == ProjectileSystem.FACTION_PLAYER ? playerShots++ : enemyShots++;
+            ImageView view = BulletPool.getView(faction, viewIndex);
+            // pooled views stay attached once added and are just hidden when unused
+            if (view.getParent() != projectileLayer) {
+                projectileLayer.getChildren().add(view);
             }
-        }
-
-        for (int i = bullets.size() - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            bullet.update(cameraX);
 
-            if (!bullet.isActive() || bullet.isOutOfBounds(levelManager.getCurrentLevel().getLevelWidth())) {
-                getChildren().remove(bullet.getBulletImage());
-                bullets.remove(i);
-            }
+            view.setX(frame.getProjectileX(i, alpha));
+            view.setY(frame.getProjectileY(i));
+            view.setVisible(true);
         }
-    }
 
-    private void updatePOW(){
-        for(POW prisoner: pow){
-            prisoner.update(cameraX,player.getPositionX());
-        }
+        BulletPool.hideFrom(ProjectileSystem.FACTION_PLAYER, playerShots);
+        BulletPool.hideFrom(ProjectileSystem.FACTION_ENEMY, enemyShots);
     }
-}
\ No newline at end of file
+}
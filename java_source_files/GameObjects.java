@@ -1,16 +1,142 @@
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public abstract class GameObjects {
     protected double positionX;
     protected double positionY;
-    protected ImageView spriteView;
+    // position at the start of the current tick, used to interpolate rendering between ticks
+    protected double previousX;
+    protected double previousY;
+    // created by the first getSpriteView(), on the FX thread; only applyRenderState() changes it
+    private ImageView spriteView;
+    // reused by getBounds() so collision checks do not allocate
+    protected final AABB bounds = new AABB();
+    // last position written to spriteView
+    private double viewX = Double.NaN;
+    private double viewY = Double.NaN;
+    // how the sprite should look, set on the simulation side and copied into RenderStates
+    private double viewScaleX = 1;
+    private double viewScaleY = 1;
+    private Image frameImage;
+    private Rectangle2D frameViewport;
+    private final ArrayList<String> acquiredAssets = new ArrayList<>();
+    private boolean disposed;
+    private final ArrayList<SpriteAnimation> animations = new ArrayList<>();
 
     public GameObjects(double x, double y) {
         this.positionX = x;
         this.positionY = y;
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    protected void setViewScale(double scale) {
+        viewScaleX = scale;
+        viewScaleY = scale;
+    }
+
+    // dt is the fixed simulation step in seconds
+    public abstract void update(double dt, double cameraX , double sceneWidth);
+
+    public void capturePreviousPosition() {
+        previousX = positionX;
+        previousY = positionY;
     }
 
-    public abstract void update(double cameraX , double sceneWidth);
+    // Simulation side: records where and how the sprite should be drawn after this tick.
+    // Subclasses adjust the state for flips and per-animation offsets
+    public void captureRenderState(RenderState state) {
+        state.set(this, previousX, previousY, positionX, positionY);
+        state.setScale(viewScaleX, viewScaleY);
+        state.setFrame(frameImage, frameViewport);
+    }
+
+    // FX thread: lays the view out from a captured state. Views live in world coordinates inside
+    // the engine's world Group, which the camera moves. alpha is how far the frame is between
+    // the previous tick and the current one (0..1)
+    public void applyRenderState(RenderState state, double alpha) {
+        if (getSpriteView() == null) {
+            return;
+        }
+        if (spriteView.getImage() != state.getImage()) {
+            spriteView.setImage(state.getImage());
+        }
+        if (spriteView.getViewport() != state.getViewport()) {
+            spriteView.setViewport(state.getViewport());
+        }
+        if (spriteView.getScaleX() != state.getScaleX()) {
+            spriteView.setScaleX(state.getScaleX());
+        }
+        if (spriteView.getScaleY() != state.getScaleY()) {
+            spriteView.setScaleY(state.getScaleY());
+        }
+        placeView(state.interpolateX(alpha), state.interpolateY(alpha));
+    }
+
+    // skips the node entirely when it has not moved since the last frame (idle POWs, corpses...)
+    private void placeView(double x, double y) {
+        if (x == viewX && y == viewY) {
+            return;
+        }
+        spriteView.setX(x);
+        spriteView.setY(y);
+        viewX = x;
+        viewY = y;
+    }
+
+    // Sheets and frame data come from the shared AssetCache, released again in dispose()
+    protected SpriteAnimation loadAnimation(String sheetPath, String framesPath, double fps) {
+        // a packed sheet is drawn from its level's atlas, with the frames moved to match
+        String imagePath = TextureAtlas.resolveImage(sheetPath);
+        Image sheet = AssetCache.acquireImage(imagePath);
+        acquiredAssets.add(imagePath);
+        List<Rectangle2D> frames = AssetCache.acquireSheetFrames(sheetPath, framesPath);
+        acquiredAssets.add(AssetCache.sheetFramesKey(sheetPath, framesPath));
+
+        SpriteAnimation animation = new SpriteAnimation(this, sheet, frames, fps);
+        animations.add(animation);
+        return animation;
+    }
+
+    void setFrameImage(Image image) {
+        frameImage = image;
+    }
+
+    void setFrameViewport(Rectangle2D viewport) {
+        frameViewport = viewport;
+    }
+
+    public ArrayList<SpriteAnimation> getAnimations() {
+        return animations;
+    }
+
+    // Stops the animations and hands every cached asset back. Safe to call more than once; the
+    // sprite's node is left alone, removing it from the scene is the engine's job
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        for (SpriteAnimation animation : animations) {
+            animation.dispose();
+        }
+        releaseAssets();
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private void releaseAssets() {
+        for (String path : acquiredAssets) {
+            AssetCache.release(path);
+        }
+        acquiredAssets.clear();
+    }
 
     public double getPositionX() {
         return positionX;
@@ -20,16 +146,19 @@ public abstract class GameObjects {
         return positionY;
     }
 
+    // Only the scene-graph renderer asks for a view, so the canvas renderer never has a node per
+    // entity. Null in headless mode
     public ImageView getSpriteView() {
+        if (spriteView == null && !Headless.isEnabled()) {
+            spriteView = new ImageView();
+        }
         return spriteView;
     }
 
     public void setPosition(double x, double y) {
         this.positionX = x;
         this.positionY = y;
-        if(spriteView != null) {
-            spriteView.setX(x);
-            spriteView.setY(y);
-        }
+        this.previousX = x;
+        this.previousY = y;
     }
 }
@@ -0,0 +1,287 @@
+import java.util.ArrayList;
+
+// All gameplay state and the fixed-step update, with no scene graph access. GameEngine
+// wraps it for the window; HeadlessRunner steps it directly with Headless enabled.
+public class GameSimulation {
+
+    // the camera still drives gameplay (activation, on-screen checks), so the view size lives here
+    public static final double VIEW_WIDTH = 1200;
+    public static final double VIEW_HEIGHT = 750;
+
+    private static final int DEFAULT_TICK_RATE = 120;
+
+    private final SimClock simClock;
+    private final LevelManager levelManager;
+    private final Player player;
+    private final ArrayList<Enemy> enemies;
+    private final ArrayList<POW> pow;
+    private final AnimationClock animationClock;
+    private final ProjectileSystem projectiles;
+
+    // enemies removed during step(), until the presentation layer has detached their views
+    private final ArrayList<Enemy> despawned;
+
+    private double cameraX;
+    private double previousCameraX;
+
+    public GameSimulation() {
+        simClock = new SimClock(DEFAULT_TICK_RATE);
+        projectiles = new ProjectileSystem();
+
+        levelManager = new LevelManager();
+        Level currentLevel = levelManager.getCurrentLevel();
+
+        player = new Player(currentLevel.getPlayerStartX(), currentLevel.getPlayerStartY(), currentLevel.getLevelWidth());
+        player.setClock(simClock);
+        player.setProjectiles(projectiles);
+        CollisionManager.setWorldBounds(currentLevel.getLevelWidth(), VIEW_HEIGHT);
+
+        animationClock = new AnimationClock();
+        animationClock.register(player);
+
+        enemies = new ArrayList<>();
+        pow = new ArrayList<>();
+        despawned = new ArrayList<>();
+        addLevelEntities(currentLevel);
+    }
+
+    private void addLevelEntities(Level currentLevel) {
+        for (GameObjects entity : currentLevel.getGameObjects()) {
+            if (entity instanceof Enemy) {
+                Enemy enemy = (Enemy) entity;
+                enemy.setClock(simClock);
+                enemy.setProjectiles(projectiles);
+                enemies.add(enemy);
+                animationClock.register(enemy);
+            } else if (entity instanceof POW) {
+                POW prisoner = (POW) entity;
+                pow.add(prisoner);
+                animationClock.register(prisoner);
+            }
+        }
+    }
+
+    // Adds an enemy outside the level's own spawn list (stress runs, scripted waves)
+    public void spawnEnemy(Enemy enemy) {
+        enemy.setClock(simClock);
+        enemy.setProjectiles(projectiles);
+        enemies.add(enemy);
+        animationClock.register(enemy);
+    }
+
+    public void changeLevel(int levelNumber) {
+        Level oldLevel = levelManager.getCurrentLevel();
+
+        enemies.clear();
+        pow.clear();
+        projectiles.clear();
+        despawned.clear();
+        animationClock.clear();
+        animationClock.register(player);
+
+        // decode the next level's sheets in parallel, and build it before releasing the old one
+        // so shared sheets are not decoded twice
+        AssetPreloader preloader = new AssetPreloader(LevelManager.getManifest(levelNumber));
+        preloader.start();
+        levelManager.loadLevel(levelNumber);
+        oldLevel.dispose();
+
+        Level currentLevel = levelManager.getCurrentLevel();
+        CollisionManager.setWorldBounds(currentLevel.getLevelWidth(), VIEW_HEIGHT);
+        addLevelEntities(currentLevel);
+        preloader.release();
+
+        player.setPosition(currentLevel.getPlayerStartX(), currentLevel.getPlayerStartY(), currentLevel.getLevelWidth(), 0);
+        cameraX = 0;
+        previousCameraX = 0;
+    }
+
+    // One fixed tick. Player input flags must already be set for this tick.
+    public void step() {
+        double tickSeconds = simClock.getTickSeconds();
+        capturePreviousPositions();
+
+        player.update(tickSeconds, cameraX, VIEW_WIDTH);
+
+        PhysicsManager.updatePlayer(player, levelManager.getCurrentLevel(), tickSeconds);
+
+        updateEnemies();
+        CollisionManager.checkBulletCollisions(projectiles, player, enemies, cameraX, VIEW_WIDTH);
+        CollisionManager.checkMeleeCollisions(player, enemies);
+
+        updatePOW();
+
+        projectiles.update(tickSeconds, levelManager.getCurrentLevel().getLevelWidth());
+        updateCamera();
+
+        // animations gate gameplay (death and melee timing), so they run on sim time too
+        simClock.advance();
+        animationClock.tick(simClock.getTimeNanos());
+    }
+
+    // Releases everything the simulation holds; the simulation cannot be stepped afterwards
+    public void dispose() {
+        animationClock.clear();
+        Level currentLevel = levelManager.getCurrentLevel();
+        if (currentLevel != null) {
+            currentLevel.stopMusic();
+            currentLevel.dispose();
+        }
+        player.dispose();
+        enemies.clear();
+        pow.clear();
+        despawned.clear();
+        projectiles.clear();
+    }
+
+    // Folds the gameplay state into one number, so two runs can be compared bit for bit
+    public long checksum() {
+        long hash = mix(0, simClock.getTickCount());
+        hash = mix(hash, Double.doubleToLongBits(cameraX));
+        hash = mixCharacter(hash, player);
+        for (Enemy enemy : enemies) {
+            hash = mixCharacter(hash, enemy);
+        }
+        for (POW prisoner : pow) {
+            hash = mix(hash, Double.doubleToLongBits(prisoner.getPositionX()));
+            hash = mix(hash, Double.doubleToLongBits(prisoner.getPositionY()));
+        }
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (!projectiles.isAlive(i)) continue;
+            hash = mix(hash, Double.doubleToLongBits(projectiles.getX(i)));
+            hash = mix(hash, Double.doubleToLongBits(projectiles.getY(i)));
+            hash = mix(hash, projectiles.getFaction(i));
+        }
+        return hash;
+    }
+
+    private static long mixCharacter(long hash, Character character) {
+        hash = mix(hash, Double.doubleToLongBits(character.getPositionX()));
+        hash = mix(hash, Double.doubleToLongBits(character.getPositionY()));
+        return mix(hash, character.getHealth());
+    }
+
+    // FNV-1a style step over a whole long
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001B3L;
+    }
+
+    private void capturePreviousPositions() {
+        previousCameraX = cameraX;
+        player.capturePreviousPosition();
+        for (Enemy enemy : enemies) {
+            enemy.capturePreviousPosition();
+        }
+        for (POW prisoner : pow) {
+            prisoner.capturePreviousPosition();
+        }
+    }
+
+    private void updateCamera() {
+        double targetCameraX = player.getPositionX() - VIEW_WIDTH / 3.5;
+
+        if(targetCameraX > cameraX) {
+            double minCameraX = 0;
+            double maxCameraX = (levelManager.getCurrentLevel().getLevelWidth() - 20) - VIEW_WIDTH;
+
+            cameraX = Math.max(minCameraX, Math.min(targetCameraX, maxCameraX));
+        }
+    }
+
+    private void updateEnemies() {
+        double tickSeconds = simClock.getTickSeconds();
+
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            Enemy enemy = enemies.get(i);
+
+            if (!enemy.isActive() && shouldActivate(enemy)) {
+                enemy.setActive(true);
+            }
+
+            enemy.update(tickSeconds, cameraX, VIEW_WIDTH);
+
+            if (enemy.isActive()) {
+                if (enemy instanceof BasicEnemy) {
+                    BasicEnemy basic = (BasicEnemy) enemy;
+                    basic.updateBehavior(tickSeconds, player.getPositionX());
+                } else if (enemy instanceof ShieldedEnemy) {
+                    ShieldedEnemy shielded = (ShieldedEnemy) enemy;
+                    shielded.updateBehavior(tickSeconds, player);
+                }
+            }
+
+            if (enemy.isDead()) {
+                boolean readyToRemove = enemy.isReadyToRemove();
+                if (!readyToRemove) {
+                    continue;
+                }
+                projectiles.removeOwnedBy(enemy);
+                animationClock.unregister(enemy);
+                enemies.remove(i);
+                enemy.dispose();
+                despawned.add(enemy);
+            }
+        }
+    }
+
+    private boolean shouldActivate(Enemy enemy) {
+        if (enemy instanceof BasicEnemy) {
+            BasicEnemy basic = (BasicEnemy) enemy;
+            return basic.shouldActivate(player.getPositionX(), cameraX, VIEW_WIDTH);
+        } else if (enemy instanceof ShieldedEnemy) {
+            ShieldedEnemy shielded = (ShieldedEnemy) enemy;
+            return shielded.shouldActivate(player.getPositionX(), cameraX, VIEW_WIDTH);
+        }
+        return false;
+    }
+
+    private void updatePOW(){
+        for(POW prisoner: pow){
+            prisoner.update(simClock.getTickSeconds(), cameraX, player.getPositionX());
+        }
+    }
+
+    public void setTickRate(int ticksPerSecond) {
+        simClock.setTickRate(ticksPerSecond);
+    }
+
+    public SimClock getSimClock() {
+        return simClock;
+    }
+
+    public Level getCurrentLevel() {
+        return levelManager.getCurrentLevel();
+    }
+
+    public int getCurrentLevelNumber() {
+        return levelManager.getCurrentLevelNumber();
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+
+    public ArrayList<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public ArrayList<POW> getPow() {
+        return pow;
+    }
+
+    public ArrayList<Enemy> getDespawned() {
+        return despawned;
+    }
+
+    public double getCameraX() {
+        return cameraX;
+    }
+
+    public double getPreviousCameraX() {
+        return previousCameraX;
+    }
+}
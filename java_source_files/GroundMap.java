@@ -0,0 +1,94 @@
+import java.util.ArrayList;
+
+// Level ground compiled into a 1px-per-column heightfield when the level loads.
+// Each column holds the tops of every platform above it (sorted, usually one or two),
+// so a ground lookup is an array index instead of a scan over every Platform.
+public class GroundMap {
+
+    private final int originX;
+    private final int[] columnStart; // tops of column c live in tops[columnStart[c] .. columnStart[c + 1])
+    private final float[] tops;
+
+    private GroundMap(int originX, int[] columnStart, float[] tops) {
+        this.originX = originX;
+        this.columnStart = columnStart;
+        this.tops = tops;
+    }
+
+    public static GroundMap build(ArrayList<GameObjects> entities) {
+        ArrayList<Platform> platforms = new ArrayList<>();
+        int minColumn = Integer.MAX_VALUE;
+        int maxColumn = Integer.MIN_VALUE;
+        for (GameObjects obj : entities) {
+            if (obj instanceof Platform) {
+                Platform platform = (Platform) obj;
+                platforms.add(platform);
+                minColumn = Math.min(minColumn, firstColumn(platform));
+                maxColumn = Math.max(maxColumn, lastColumn(platform));
+            }
+        }
+        if (platforms.isEmpty()) {
+            return new GroundMap(0, new int[] {0}, new float[0]);
+        }
+
+        int columns = maxColumn - minColumn + 1;
+        int[] columnStart = new int[columns + 1];
+
+        // pass 1: count tops per column, then prefix-sum into start offsets
+        for (Platform platform : platforms) {
+            for (int c = firstColumn(platform); c <= lastColumn(platform); c++) {
+                columnStart[c - minColumn + 1]++;
+            }
+        }
+        for (int c = 0; c < columns; c++) {
+            columnStart[c + 1] += columnStart[c];
+        }
+
+        // pass 2: fill, keeping each column sorted from highest to lowest top
+        float[] tops = new float[columnStart[columns]];
+        int[] fill = new int[columns];
+        for (Platform platform : platforms) {
+            float top = (float) platform.getPositionY();
+            for (int c = firstColumn(platform); c <= lastColumn(platform); c++) {
+                int column = c - minColumn;
+                int i = columnStart[column] + fill[column]++;
+                while (i > columnStart[column] && tops[i - 1] > top) {
+                    tops[i] = tops[i - 1];
+                    i--;
+                }
+                tops[i] = top;
+            }
+        }
+
+        return new GroundMap(minColumn, columnStart, tops);
+    }
+
+    // Top of the platform under x closest to feetY, within [feetY - above, feetY + below].
+    // Returns NaN when there is none.
+    public double findGround(double x, double feetY, double above, double below) {
+        int column = (int) Math.floor(x) - originX;
+        if (column < 0 || column >= columnStart.length - 1) {
+            return Double.NaN;
+        }
+
+        double closestTop = Double.NaN;
+        double closestDistance = Double.MAX_VALUE;
+        for (int i = columnStart[column]; i < columnStart[column + 1]; i++) {
+            double distance = feetY - tops[i];
+            if (distance >= -above && distance <= below && Math.abs(distance) < closestDistance) {
+                closestDistance = Math.abs(distance);
+                closestTop = tops[i];
+            }
+        }
+        return closestTop;
+    }
+
+    private static int firstColumn(Platform platform) {
+        return (int) Math.floor(platform.getPositionX());
+    }
+
+    private static int lastColumn(Platform platform) {
+        int last = (int) Math.ceil(platform.getPositionX() + platform.getWidth()) - 1;
+        return Math.max(last, firstColumn(platform));
+    }
+}
@@ -0,0 +1,18 @@
+// Switched on once at startup, before any level or entity is built. While enabled nothing
+// creates Images, ImageViews, Media or AudioClips, so GameSimulation runs without a JavaFX
+// toolkit or audio device (benchmarks, soak tests, CI).
+public final class Headless {
+
+    private static boolean enabled;
+
+    private Headless() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+}
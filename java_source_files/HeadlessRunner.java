@@ -0,0 +1,47 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+
+// Steps Level1 with no window, images or audio, as fast as the CPU allows.
+// Usage: java HeadlessRunner [ticks] [recording]   (JavaFX jars on the classpath, no toolkit needed)
+// With a recording path the scripted input is saved as an InputRecording for ReplayRunner.
+public class HeadlessRunner {
+
+    public static void main(String[] args) throws IOException {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        Headless.enable();
+        GameSimulation simulation = new GameSimulation();
+        Player player = simulation.getPlayer();
+        InputRecording recording = new InputRecording(simulation.getCurrentLevelNumber(),
+                simulation.getSimClock().getTickRate());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            // scripted run: hold right and fire, hop for a few ticks every two seconds
+            int mask = InputRecording.RIGHT | InputRecording.SHOOT;
+            if (i % 240 < 6) {
+                mask |= InputRecording.JUMP;
+            }
+            recording.append(mask);
+            InputRecording.applyMask(mask, player);
+            simulation.step();
+            simulation.getDespawned().clear();
+        }
+        long elapsedNs = System.nanoTime() - start;
+
+        SimClock clock = simulation.getSimClock();
+        System.out.printf("%d ticks (%.1f s sim) in %.1f ms, %.0f ticks/s%n",
+                clock.getTickCount(), clock.getTimeMillis() / 1000.0,
+                elapsedNs / 1_000_000.0, ticks / (elapsedNs / 1_000_000_000.0));
+        System.out.printf("player x=%.1f health=%d, enemies left=%d%n",
+                player.getPositionX(), player.getHealth(), simulation.getEnemies().size());
+
+        if (args.length > 1) {
+            recording.setChecksum(simulation.checksum());
+            recording.save(Paths.get(args[1]));
+            System.out.printf("recorded %d ticks to %s, checksum %016x%n", ticks, args[1], recording.getChecksum());
+        }
+
+        simulation.dispose();
+    }
+}
@@ -0,0 +1,9 @@
+// What a key means to the game, independent of which key is bound to it
+public enum InputAction {
+    LEFT,
+    RIGHT,
+    JUMP,
+    CROUCH,
+    SHOOT,
+    PAUSE
+}
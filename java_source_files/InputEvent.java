@@ -0,0 +1,27 @@
+// One key transition taken off the InputEventQueue. Mutable so the consumer can reuse a single
+// instance instead of allocating per event.
+public class InputEvent {
+    private InputAction action;
+    private boolean pressed;
+    private long timestampNanos;
+
+    public InputEvent set(InputAction action, boolean pressed, long timestampNanos) {
+        this.action = action;
+        this.pressed = pressed;
+        this.timestampNanos = timestampNanos;
+        return this;
+    }
+
+    public InputAction getAction() {
+        return action;
+    }
+
+    public boolean isPressed() {
+        return pressed;
+    }
+
+    // System.nanoTime() when the key handler saw the event
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+}
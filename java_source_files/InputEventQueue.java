@@ -0,0 +1,62 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Single-producer, single-consumer ring buffer of key events. The FX key handlers are the only
+// producer and the game loop the only consumer, so no lock is needed: the producer fills a slot
+// and publishes it by advancing tail, the consumer reads it and frees it by advancing head.
+// When the consumer falls a whole buffer behind, new events are dropped and counted.
+public class InputEventQueue {
+
+    private static final int CAPACITY = 256; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    private final byte[] actions = new byte[CAPACITY];
+    private final boolean[] pressed = new boolean[CAPACITY];
+    private final long[] timestamps = new long[CAPACITY];
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    // producer side
+    public boolean offer(InputAction action, boolean isPressed, long timestampNanos) {
+        long t = tail.get();
+        if (t - head.get() == CAPACITY) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        int slot = (int) (t & MASK);
+        actions[slot] = (byte) action.ordinal();
+        pressed[slot] = isPressed;
+        timestamps[slot] = timestampNanos;
+        // release: the slot writes above become visible before the new tail
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    // consumer side; Long.MAX_VALUE when empty
+    public long peekTimestamp() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return Long.MAX_VALUE;
+        }
+        return timestamps[(int) (h & MASK)];
+    }
+
+    // consumer side
+    public boolean poll(InputEvent out) {
+        long h = head.get();
+        if (h == tail.get()) {
+            return false;
+        }
+        int slot = (int) (h & MASK);
+        out.set(ACTIONS[actions[slot]], pressed[slot], timestamps[slot]);
+        head.lazySet(h + 1);
+        return true;
+    }
+
+    public int getDroppedCount() {
+        return dropped.get();
+    }
+}
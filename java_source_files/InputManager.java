@@ -1,66 +1,70 @@
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 
+// Turns the scene's key events into timestamped InputEvents on a lock-free queue. The game loop
+// drains them once per tick, up to that tick's point in time, so taps shorter than a frame and
+// the order of keys within a frame survive, and the delay from key to tick can be measured.
 public class InputManager {
-    private boolean left;
-    private boolean right;
-    private boolean jump;
-    private boolean crouch;
-    private boolean shoot;
-    private boolean reload;
-    private boolean escape;
+    private final InputEventQueue queue = new InputEventQueue();
+    private final InputEvent event = new InputEvent();
     private KeyBindings keyBindings;
 
+    // consumer side only
+    private long latencySamples;
+    private long latencyTotalNanos;
+    private long maxLatencyNanos;
+
     public InputManager(Scene scene) {
         keyBindings = KeyBindings.getInstance();
-        
-        scene.setOnKeyPressed(e -> {
-            if (e.getCode() == keyBindings.getLeftKey()) {
-                setLeft(true);
-            } else if (e.getCode() == keyBindings.getRightKey()) {
-                setRight(true);
-            } else if (e.getCode() == keyBindings.getUpKey()) {
-                setJump(true);
-            } else if (e.getCode() == keyBindings.getDownKey()) {
-                setCrouch(true);
-            } else if (e.getCode() == keyBindings.getShootKey()) {
-                setShoot(true);
-            } else if (e.getCode() == KeyCode.ESCAPE) {
-                setEscape(true);
-            }
-        });
 
-        scene.setOnKeyReleased(e -> {
-            if (e.getCode() == keyBindings.getLeftKey()) {
-                setLeft(false);
-            } else if (e.getCode() == keyBindings.getRightKey()) {
-                setRight(false);
-            } else if (e.getCode() == keyBindings.getUpKey()) {
-                setJump(false);
-            } else if (e.getCode() == keyBindings.getDownKey()) {
-                setCrouch(false);
-            } else if (e.getCode() == KeyCode.ESCAPE) {
-                setEscape(false);
-            } else if (e.getCode() == keyBindings.getShootKey()) {
-                setShoot(false);
-            }
-        });
+        scene.setOnKeyPressed(e -> push(e.getCode(), true));
+        scene.setOnKeyReleased(e -> push(e.getCode(), false));
+    }
+
+    private void push(KeyCode code, boolean pressed) {
+        InputAction action = toAction(code);
+        if (action != null) {
+            queue.offer(action, pressed, System.nanoTime());
+        }
     }
 
-    private void setLeft(boolean left) { this.left = left; }
-    private void setRight(boolean right) { this.right = right; }
-    private void setJump(boolean jump) { this.jump = jump; }
-    private void setCrouch(boolean crouch) { this.crouch = crouch; }
-    private void setShoot(boolean shoot) {this.shoot = shoot; }
-    private void setReload(boolean reload) {this.reload = reload; }
-    private void setEscape(boolean escape) { this.escape = escape; }
+    // bindings are read on every key so changes made in the controls menu apply at once
+    private InputAction toAction(KeyCode code) {
+        if (code == keyBindings.getLeftKey()) return InputAction.LEFT;
+        if (code == keyBindings.getRightKey()) return InputAction.RIGHT;
+        if (code == keyBindings.getUpKey()) return InputAction.JUMP;
+        if (code == keyBindings.getDownKey()) return InputAction.CROUCH;
+        if (code == keyBindings.getShootKey()) return InputAction.SHOOT;
+        if (code == KeyCode.ESCAPE) return InputAction.PAUSE;
+        return null;
+    }
 
-    public boolean isLeft() { return left; }
-    public boolean isRight() { return right; }
-    public boolean isJump() { return jump; }
-    public boolean isCrouch() { return crouch; }
-    public boolean isShoot() { return shoot; }
-    public boolean isReload() { return reload; }
-    public boolean isEscape() { return escape; }
+    // Applies, in order, every event that happened at or before deadlineNanos
+    public void pollUntil(long deadlineNanos, InputState state) {
+        long now = System.nanoTime();
+        while (queue.peekTimestamp() <= deadlineNanos && queue.poll(event)) {
+            state.apply(event);
 
-}
\ No newline at end of file
+            long latency = now - event.getTimestampNanos();
+            latencySamples++;
+            latencyTotalNanos += latency;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+        }
+    }
+
+    public long getLatencySamples() {
+        return latencySamples;
+    }
+
+    public double getAverageLatencyMillis() {
+        return latencySamples == 0 ? 0 : latencyTotalNanos / (double) latencySamples / 1_000_000.0;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1_000_000.0;
+    }
+
+    public int getDroppedEvents() {
+        return queue.getDroppedCount();
+    }
+}
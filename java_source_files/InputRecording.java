@@ -0,0 +1,193 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// The player's input for every tick of a run, as one bit per gameplay action. The simulation has
+// no randomness and runs on SimClock time, so replaying the masks into a fresh simulation at the
+// same tick rate reproduces the run exactly; the checksum of the final state proves it.
+//
+// File layout, big-endian: int MAGIC, int level, int tick rate, int tick count, long checksum,
+// then runs of (byte mask, varint length) until tick count ticks are covered. Held keys make
+// long runs, so a minute of play is usually a few hundred bytes.
+public class InputRecording {
+
+    public static final int MAGIC = 0x494E5031; // "INP1"
+
+    // mask bits; PAUSE is never recorded, it does not reach the simulation
+    public static final int LEFT = 1;
+    public static final int RIGHT = 2;
+    public static final int JUMP = 4;
+    public static final int CROUCH = 8;
+    public static final int SHOOT = 16;
+
+    private final int level;
+    private final int tickRate;
+    private byte[] masks = new byte[4096];
+    private int tickCount;
+    private long checksum;
+
+    public InputRecording(int level, int tickRate) {
+        this.level = level;
+        this.tickRate = tickRate;
+    }
+
+    public static int maskOf(InputState state) {
+        int mask = 0;
+        if (state.isActive(InputAction.LEFT)) mask |= LEFT;
+        if (state.isActive(InputAction.RIGHT)) mask |= RIGHT;
+        if (state.isActive(InputAction.JUMP)) mask |= JUMP;
+        if (state.isActive(InputAction.CROUCH)) mask |= CROUCH;
+        if (state.isActive(InputAction.SHOOT)) mask |= SHOOT;
+        return mask;
+    }
+
+    // sets the player's input flags exactly as the mask says
+    public static void applyMask(int mask, Player player) {
+        player.setLeftPressed((mask & LEFT) != 0);
+        player.setRightPressed((mask & RIGHT) != 0);
+        player.setJumpPressed((mask & JUMP) != 0);
+        player.setCrouchPressed((mask & CROUCH) != 0);
+        player.setShootPressed((mask & SHOOT) != 0);
+    }
+
+    public void append(int mask) {
+        if (tickCount == masks.length) {
+            masks = Arrays.copyOf(masks, tickCount * 2);
+        }
+        masks[tickCount++] = (byte) mask;
+    }
+
+    public int getMask(int tick) {
+        return masks[tick];
+    }
+
+    public void applyTo(int tick, Player player) {
+        applyMask(masks[tick], player);
+    }
+
+    // Builds the simulation a replay must start from: the recorded level and tick rate
+    public GameSimulation createSimulation() {
+        GameSimulation simulation = new GameSimulation();
+        simulation.setTickRate(tickRate);
+        if (level != simulation.getCurrentLevelNumber()) {
+            simulation.changeLevel(level);
+        }
+        return simulation;
+    }
+
+    // Replays every tick into a simulation from createSimulation() and returns the final checksum
+    public long replay(GameSimulation simulation) {
+        Player player = simulation.getPlayer();
+        for (int tick = 0; tick < tickCount; tick++) {
+            applyTo(tick, player);
+            simulation.step();
+            simulation.getDespawned().clear();
+        }
+        return simulation.checksum();
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    // GameSimulation.checksum() after the last tick, 0 if the run was not finished
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(long checksum) {
+        this.checksum = checksum;
+    }
+
+    public void save(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(level);
+        out.writeInt(tickRate);
+        out.writeInt(tickCount);
+        out.writeLong(checksum);
+
+        int tick = 0;
+        while (tick < tickCount) {
+            byte mask = masks[tick];
+            int end = tick + 1;
+            while (end < tickCount && masks[end] == mask) {
+                end++;
+            }
+            out.writeByte(mask);
+            writeVarInt(out, end - tick);
+            tick = end;
+        }
+        out.flush();
+    }
+
+    public static InputRecording load(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    public static InputRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        InputRecording recording = new InputRecording(in.readInt(), in.readInt());
+        int tickCount = in.readInt();
+        recording.checksum = in.readLong();
+
+        recording.masks = new byte[Math.max(tickCount, 1)];
+        while (recording.tickCount < tickCount) {
+            byte mask = in.readByte();
+            int length = readVarInt(in);
+            if (length <= 0 || length > tickCount - recording.tickCount) {
+                throw new IOException("Corrupt input recording at tick " + recording.tickCount);
+            }
+            Arrays.fill(recording.masks, recording.tickCount, recording.tickCount + length, mask);
+            recording.tickCount += length;
+        }
+        return recording;
+    }
+
+    // 7 bits per byte, high bit set on every byte but the last
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt run length");
+    }
+}
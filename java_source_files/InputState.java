@@ -0,0 +1,35 @@
+import java.util.Arrays;
+
+// The keyboard as the simulation sees it. Besides the keys held right now it remembers every key
+// pressed since the last tick, so a tap that starts and ends between two ticks still counts as
+// held for one tick.
+public class InputState {
+
+    private final boolean[] held = new boolean[InputAction.values().length];
+    private final boolean[] pressedSinceTick = new boolean[InputAction.values().length];
+
+    public void apply(InputEvent event) {
+        int action = event.getAction().ordinal();
+        held[action] = event.isPressed();
+        if (event.isPressed()) {
+            pressedSinceTick[action] = true;
+        }
+    }
+
+    public boolean isActive(InputAction action) {
+        return held[action.ordinal()] || pressedSinceTick[action.ordinal()];
+    }
+
+    public void applyTo(Player player) {
+        player.setLeftPressed(isActive(InputAction.LEFT));
+        player.setRightPressed(isActive(InputAction.RIGHT));
+        player.setJumpPressed(isActive(InputAction.JUMP));
+        player.setCrouchPressed(isActive(InputAction.CROUCH));
+        player.setShootPressed(isActive(InputAction.SHOOT));
+    }
+
+    // called after each tick has read the state
+    public void endTick() {
+        Arrays.fill(pressedSinceTick, false);
+    }
+}
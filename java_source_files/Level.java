@@ -1,5 +1,3 @@
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.media.MediaPlayer;
 
 import java.util.ArrayList;
@@ -7,46 +5,47 @@ import java.util.ArrayList;
 
 public abstract class Level {
 
-    private Image background;
-    private ImageView bgview;
+    private TiledBackground background;
     private double levelWidth;
     private double levelHeight;
     private double playerStartX;
     private double playerStartY;
     protected ArrayList<GameObjects> entities;
+    private GroundMap groundMap;
     protected MediaPlayer bgm;
     protected MediaPlayer introduction;
 
 
     public Level(String bgPath , double x , double y , double startX , double startY){
-        background = new Image(getClass().getResourceAsStream(bgPath));
-        bgview = new ImageView(background);
-
         this.playerStartX = startX;
         this.playerStartY = startY;
         this.levelWidth = x;
         this.levelHeight = y;
         this.entities = new ArrayList<>();
 
-        bgview.setLayoutY(-65);
-        bgview.setFitWidth(levelWidth);
-        bgview.setFitHeight(levelHeight);
+        // tiles are decoded as the camera reaches them, not here
+        background = new TiledBackground(bgPath, levelWidth, levelHeight, -65);
 
         spawnGameObjects();
+        groundMap = GroundMap.build(entities);
     }
 
     protected abstract void spawnGameObjects();
     protected abstract void loadSFX();
 
-    public ImageView getBackground(){
+    public TiledBackground getBackground(){
 
-        return bgview;
+        return background;
     }
 
     public ArrayList<GameObjects> getGameObjects() {
         return entities;
     }
 
+    public GroundMap getGroundMap() {
+        return groundMap;
+    }
+
     public double getLevelWidth(){
         return levelWidth;
     }
@@ -63,6 +62,16 @@ public abstract class Level {
         return playerStartY;
     }
 
+    // Disposes every entity and the background tiles; anything the next level still uses stays in
+    // the AssetCache. Music is global and is stopped separately with stopMusic()
+    public void dispose() {
+        for (GameObjects entity : entities) {
+            entity.dispose();
+        }
+        entities.clear();
+        background.dispose();
+    }
+
     public void stopMusic() {
         BGMManager.stop();
         // Clear local references if any were set in prior runs
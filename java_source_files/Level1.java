@@ -10,6 +10,37 @@ public class Level1 extends Level {
         loadSFX();
     }
 
+    // every sprite the level spawns, plus the shared bullet images
+    public static AssetManifest manifest() {
+        return new AssetManifest()
+                .sprite("/Assets/Player/Idle/Main Idle/Main_idle.png", "/Assets/Player/Idle/Main Idle/Main_Idle_data.json")
+                .sprite("/Assets/Player/Run/Run_sheet.png", "/Assets/Player/Run/Run_data.json")
+                .sprite("/Assets/Player/Jump/Jump_sheet.png", "/Assets/Player/Jump/Jump_data.json")
+                .sprite("/Assets/Player/Crouch Idle/Crouch_Idle.png", "/Assets/Player/Crouch Idle/Crouch_Idle_data.json")
+                .sprite("/Assets/Player/Crouch Walk/Crouch_Walk.png", "/Assets/Player/Crouch Walk/Crouch_Walk_data.json")
+                .sprite("/Assets/Player/Idle Fire/New folder/sprite_sheet.png", "/Assets/Player/Idle Fire/New folder/sprite_sheet.json")
+                .sprite("/Assets/Player/Run Fire/Run_Fire_sheet.png", "/Assets/Player/Run Fire/Run_Fire_data.json")
+                .sprite("/Assets/Player/Crouch Fire/Crouch_Fire.png", "/Assets/Player/Crouch Fire/Crouch_Fire_data.json")
+                .sprite("/Assets/Player/Death/Death.png", "/Assets/Player/Death/Death_data.json")
+                .sprite("/Assets/Enemies/Basic Soldier/Run/Run.png", "/Assets/Enemies/Basic Soldier/Run/Run_data.json")
+                .sprite("/Assets/Enemies/Basic Soldier/Shoot/Shoot.png", "/Assets/Enemies/Basic Soldier/Shoot/Shoot_data.json")
+                .sprite("/Assets/Enemies/Basic Soldier/Death/Death.png", "/Assets/Enemies/Basic Soldier/Death/Death_data.json")
+                .sprite("/Assets/Enemies/Shielded Soldier/Run/Run.png", "/Assets/Enemies/Shielded Soldier/Run/Run_data.json")
+                .sprite("/Assets/Enemies/Shielded Soldier/Attack/Attack.png", "/Assets/Enemies/Shielded Soldier/Attack/Attack_data.json")
+                .sprite("/Assets/Enemies/Shielded Soldier/Death/Death.png", "/Assets/Enemies/Shielded Soldier/Death/Death_data.json")
+                .sprite("/Assets/POW/Old Man Sitting/Old_Man_Sitting.png", "/Assets/POW/Old Man Sitting/Old_Man_Sitting_data.json")
+                .sprite("/Assets/POW/Old Man Log/Sheet.png", "/Assets/POW/Old Man Log/sheet_data.json")
+                .sprite("/Assets/POW/Man Log/man.png", "/Assets/POW/Man Log/man.json")
+                .sprite("/Assets/POW/Old Man Run/run.png", "/Assets/POW/Old Man Run/run_data.json")
+                .sprite("/Assets/POW/Man Run/run.png", "/Assets/POW/Man Run/run_data.json")
+                .sprite("/Assets/POW/Old Man Hanging/sheet.png", "/Assets/POW/Old Man Hanging/data.json")
+                .sprite("/Assets/POW/Man Hanging/man_hanging.png", "/Assets/POW/Man Hanging/man_hanging_data.json")
+                .sprite("/Assets/POW/rope/rope.png", "/Assets/POW/rope/rope_data.json")
+                .sprite("/Assets/POW/CEO/ceo.png", "/Assets/POW/CEO/ceo.json")
+                .image("/Assets/Player/bullet.png")
+                .image("/Assets/Enemies/EnemyBullet.png");
+    }
+
     public void loadSFX() {
         double bgmVol = AudioSettings.getInstance().getBgmVolume();
         BGMManager.start(
@@ -0,0 +1,42 @@
+import javafx.concurrent.Task;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Builds a GameSimulation off the FX thread. The level's manifest is decoded in parallel by an
+// AssetPreloader, with progress, so spawning the entities afterwards only hits the cache. The
+// scene is assembled by the caller on the FX thread once the task has succeeded.
+public class LevelLoadTask extends Task<GameSimulation> {
+
+    private final AssetPreloader preloader = new AssetPreloader(LevelManager.getManifest(LevelManager.FIRST_LEVEL));
+
+    @Override
+    protected GameSimulation call() {
+        updateMessage("Decoding sprites");
+        List<CompletableFuture<?>> decodes = preloader.start();
+        // one extra step for spawning the level itself
+        int total = decodes.size() + 1;
+        AtomicInteger done = new AtomicInteger();
+        for (CompletableFuture<?> decode : decodes) {
+            decode.whenComplete((result, error) -> updateProgress(done.incrementAndGet(), total));
+        }
+        preloader.awaitAll();
+        if (isCancelled()) {
+            return null;
+        }
+
+        updateMessage("Deploying troops");
+        BulletPool.prewarm();
+        SfxManager.load();
+        GameSimulation simulation = new GameSimulation();
+        updateProgress(total, total);
+        return simulation;
+    }
+
+    // Drops the preloader's references once the entities hold theirs; call on the FX thread
+    // after the task has finished, whatever the outcome
+    public void releaseManifest() {
+        preloader.release();
+    }
+}
@@ -1,12 +1,15 @@
 
 public class LevelManager {
 
+    public static final int FIRST_LEVEL = 1;
+    public static final int LEVEL_COUNT = 1;
+
     private Level currentLevel;
     private int currentLevelNumber;
 
 
     public LevelManager(){
-        currentLevelNumber = 1;
+        currentLevelNumber = FIRST_LEVEL;
         loadLevel(currentLevelNumber);
     }
 
@@ -14,6 +17,7 @@ public class LevelManager {
         switch (levelNumber){
             case 1:
                 this.currentLevel = new Level1();
+                break;
 
             default:
                 this.currentLevel = new Level1();
@@ -23,6 +27,15 @@ public class LevelManager {
         this.currentLevelNumber = levelNumber;
     }
 
+    // What a level decodes before it is built; see LevelLoadTask
+    public static AssetManifest getManifest(int levelNumber){
+        switch (levelNumber){
+            case 1:
+            default:
+                return Level1.manifest();
+        }
+    }
+
     public Level getCurrentLevel(){
         return currentLevel;
     }
@@ -0,0 +1,35 @@
+import javafx.concurrent.Task;
+import javafx.geometry.Pos;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+
+// Shown while a level loads in the background; follows the task's progress and message
+public class LoadingScreen extends VBox {
+
+    public LoadingScreen(Task<?> task) {
+        setPrefSize(1200, 750);
+        setAlignment(Pos.CENTER);
+        setSpacing(30);
+        setStyle("-fx-background-color: linear-gradient(to bottom, #1a1a1a, #0d0d0d);");
+
+        Text title = new Text("LOADING MISSION");
+        title.setFont(UITheme.boldFont(64));
+        title.setFill(Color.web("#ffcc00"));
+        title.setStroke(Color.web("#ff8800"));
+        title.setStrokeWidth(4);
+
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefSize(600, 28);
+        progressBar.setStyle("-fx-accent: #ff8800; -fx-control-inner-background: #1a1a1a;");
+        progressBar.progressProperty().bind(task.progressProperty());
+
+        Text status = new Text();
+        status.setFont(UITheme.font(22));
+        status.setFill(Color.web("#ffaa00"));
+        status.textProperty().bind(task.messageProperty());
+
+        getChildren().addAll(title, progressBar, status);
+    }
+}
@@ -117,27 +117,44 @@ public class MainMenu extends VBox {
             BGMManager.stop();
             
             if (currentGameEngine != null) {
-                currentGameEngine.stopGame();
+                currentGameEngine.dispose();
                 currentGameEngine = null;
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException ex) {}
             }
             
-            currentGameEngine = new GameEngine();
-            Scene gameScene = new Scene(currentGameEngine);
+            // the level is built on a worker thread while the loading screen stays responsive
+            Scene menuScene = stage.getScene();
+            LevelLoadTask loadTask = new LevelLoadTask();
+            loadTask.setOnSucceeded(e -> {
+                showGame(loadTask.getValue());
+                loadTask.releaseManifest();
+            });
+            loadTask.setOnFailed(e -> {
+                loadTask.releaseManifest();
+                loadTask.getException().printStackTrace();
+                stage.setScene(menuScene);
+            });
+            stage.setScene(new Scene(new LoadingScreen(loadTask)));
 
-            InputManager inputManager = new InputManager(gameScene);
-            currentGameEngine.setInputManager(inputManager);
-            currentGameEngine.setStage(stage);
-
-            stage.setScene(gameScene);
-            gameScene.getRoot().requestFocus();
+            Thread loader = new Thread(loadTask, "level-loader");
+            loader.setDaemon(true);
+            loader.start();
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    private void showGame(GameSimulation simulation) {
+        currentGameEngine = new GameEngine(simulation, RenderMode.fromSystemProperty());
+        Scene gameScene = new Scene(currentGameEngine);
+
+        InputManager inputManager = new InputManager(gameScene);
+        currentGameEngine.setInputManager(inputManager);
+        currentGameEngine.setStage(stage);
+
+        stage.setScene(gameScene);
+        gameScene.getRoot().requestFocus();
+    }
+
     private void showControlsMenu() {
         Scene currentMenuScene = stage.getScene();
         ControlsMenu controlsMenu = new ControlsMenu(stage, currentMenuScene);
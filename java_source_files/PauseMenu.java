@@ -119,11 +119,7 @@ public class PauseMenu extends VBox {
     private void exitToMainMenu() {
         soundManager.stopSounds();
         
-        gameEngine.stopGame();
-        
-        try {
-            Thread.sleep(150);
-        } catch (InterruptedException ex) {}
+        gameEngine.dispose();
         
         MainMenu mainMenu = new MainMenu(stage);
         Scene menuScene = new Scene(mainMenu);
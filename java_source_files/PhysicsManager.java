@@ -1,28 +1,26 @@
 
-import javafx.geometry.Rectangle2D;
-
 public class PhysicsManager {
 
-    private static final double MAX_FALL_SPEED = 5.0;
+    private static final double MAX_FALL_SPEED = 300.0; // pixels per second
     private static final double GROUND_DETECTION_RANGE = 30.0;
+    private static final double GROUND_SNAP_ABOVE = 15.0;
 
-    public static void updatePlayer(Player player, Level level) {
+    public static void updatePlayer(Player player, Level level, double dt) {
         // Apply gravity
-        double newVelocityY = player.getVelocityY() + player.getGravity();
+        double newVelocityY = player.getVelocityY() + player.getGravity() * dt;
         if (newVelocityY > MAX_FALL_SPEED) {
             newVelocityY = MAX_FALL_SPEED;
         }
         player.setVelocityY(newVelocityY);
 
         // move player down
-        player.setPositionY(player.getPositionY() + player.getVelocityY());
+        player.setPositionY(player.getPositionY() + player.getVelocityY() * dt);
 
         // check for ground only if moving downward
         if (player.getVelocityY() >= 0) {
-            Platform groundPlatform = findGroundPlatform(player, level);
+            double platformTop = findGroundTop(player, level);
 
-            if (groundPlatform != null) {
-                double platformTop = groundPlatform.getBounds().getMinY();
+            if (!Double.isNaN(platformTop)) {
                 player.setPositionY(platformTop - (Player.COLLISION_HEIGHT + Player.COLLISION_OFFSET_Y));
                 player.setVelocityY(0);
                 player.setOnGround(true);
@@ -39,41 +37,12 @@ public class PhysicsManager {
         }
     }
 
-    private static Platform findGroundPlatform(Player player, Level level) {
+    private static double findGroundTop(Player player, Level level) {
 
         double playerCenterX = player.getPositionX() + Player.COLLISION_OFFSET_X + (Player.COLLISION_WIDTH / 2.0);
         double playerFeet = player.getPositionY() + Player.COLLISION_OFFSET_Y + Player.COLLISION_HEIGHT;
 
-        Platform closestPlatform = null;
-        double closestDistance = Double.MAX_VALUE;
-
-        for (GameObjects obj : level.getGameObjects()) {
-            if (obj instanceof Platform) {
-                Platform platform = (Platform) obj;
-                Rectangle2D platBounds = platform.getBounds();
-
-                double platLeft = platBounds.getMinX();
-                double platRight = platBounds.getMaxX();
-                double platTop = platBounds.getMinY();
-
-
-                if (playerCenterX >= platLeft && playerCenterX <= platRight) {
-                    double distance = playerFeet - platTop;
-
-
-                    if (distance >= -15 && distance <= GROUND_DETECTION_RANGE) {
-
-                        double absDistance = Math.abs(distance);
-                        if (absDistance < Math.abs(closestDistance)) {
-                            closestDistance = distance;
-                            closestPlatform = platform;
-                        }
-                    }
-                }
-            }
-        }
-
-        return closestPlatform;
+        return level.getGroundMap().findGround(playerCenterX, playerFeet, GROUND_SNAP_ABOVE, GROUND_DETECTION_RANGE);
     }
 
     private static void resetPlayer(Player player, Level level) {
@@ -5,9 +5,9 @@ public class Pistol extends Weapon {
     }
 
     @Override
-    public Bullet fire(double x, double y, boolean facingRight , boolean isCrouching , boolean isMoving) {
+    public boolean fire(ProjectileSystem projectiles, double x, double y, boolean facingRight , boolean isCrouching , boolean isMoving) {
         if (!canFire(isCrouching , isMoving)) {
-            return null;
+            return false;
         }
 
 
@@ -20,7 +20,8 @@ public class Pistol extends Weapon {
             bulletY = y + 25;
         }
 
-        return new Bullet(bulletX, bulletY, facingRight, damage , "Player");
+        projectiles.spawn(bulletX, bulletY, facingRight, damage, ProjectileSystem.FACTION_PLAYER, null);
+        return true;
     }
 
 }
@@ -1,8 +1,6 @@
 
-import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.geometry.Rectangle2D;
 
 public class Platform extends GameObjects {
     private double width;
@@ -14,23 +12,21 @@ public class Platform extends GameObjects {
         this.width = width;
         this.height = height;
 
-        this.collisionBox = new Rectangle(width, height);
-        this.collisionBox.setFill(Color.TRANSPARENT);
-
-        this.spriteView = new ImageView();
+        if (!Headless.isEnabled()) {
+            this.collisionBox = new Rectangle(width, height);
+            this.collisionBox.setFill(Color.TRANSPARENT);
+            // platforms never move, so the box is placed once in world coordinates
+            this.collisionBox.setX(x);
+            this.collisionBox.setY(y);
+        }
     }
 
     @Override
-    public void update(double cameraX, double sceneWidth) {
-        if(collisionBox != null) {
-            collisionBox.setX(positionX - cameraX);
-            collisionBox.setY(positionY);
-        }
+    public void update(double dt, double cameraX, double sceneWidth) {
     }
 
-    public Rectangle2D getBounds(){
-        return new Rectangle2D(positionX, positionY, width, height) {
-        };
+    public AABB getBounds(){
+        return bounds.set(positionX, positionY, width, height);
     }
 
     public Rectangle getCollisionBox() {
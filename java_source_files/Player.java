@@ -1,12 +1,3 @@
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.geometry.Rectangle2D;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
-
-import java.util.ArrayList;
-
-
 public class Player extends Character {
 
     public static final double COLLISION_WIDTH = 65;
@@ -20,8 +11,9 @@ public class Player extends Character {
 
     private static final double CROUCH_Y_OFFSET = 30;
 
-    private static final double PLAYER_SPEED = 2;
-    private static final double CROUCH_SPEED = .25;
+    // pixels per second
+    private static final double PLAYER_SPEED = 120;
+    private static final double CROUCH_SPEED = 15;
     private static final int PLAYER_HEALTH = 100;
 
     private double scale;
@@ -36,14 +28,17 @@ public class Player extends Character {
 
     private boolean shootPressed;
     private Weapon currentWeapon;
-    private ArrayList<Bullet> bullets;
 
     private double velocityY;
     private boolean isOnGround;
-    private static final double GRAVITY = 0.55;
-    private static final double JUMP_POWER = -15;
+    private static final double GRAVITY = 1980;
+    private static final double JUMP_POWER = -900;
+
+    // how long the player can be airborne before switching to the jump / dropping the run animation
+    private static final double JUMP_ANIMATION_DELAY = 5 / 60.0;
+    private static final double RUN_ANIMATION_GRACE = 15 / 60.0;
 
-    private int framesOffGround = 0;
+    private double timeOffGround = 0;
 
     private double minBoundaryX;
     private double maxBoundaryX;
@@ -58,8 +53,6 @@ public class Player extends Character {
     private SpriteAnimation shootCrouchAnim;
     private SpriteAnimation deathAnim;
 
-    private MediaPlayer deathSound;
-    private MediaPlayer hitSound;
 
     private AnimationState currentState;
 
@@ -80,12 +73,9 @@ public class Player extends Character {
         this.maxBoundaryX = boundaryX;
         this.scale = 3.5;
 
-        this.spriteView = new ImageView();
-        spriteView.setScaleX(scale);
-        spriteView.setScaleY(scale);
+        setViewScale(scale);
 
         loadAllAnimations();
-        loadAllSounds();
 
         leftPressed = false;
         rightPressed = false;
@@ -97,7 +87,6 @@ public class Player extends Character {
         currentState = AnimationState.IDLE;
 
         currentWeapon = new Pistol();
-        bullets = new ArrayList<>();
         shootPressed = false;
 
         respawnX = x;
@@ -109,47 +98,29 @@ public class Player extends Character {
 
     private void loadAllAnimations() {
         try {
-            Image idleSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Idle/Main Idle/Main_idle.png"));
-            ArrayList<Rectangle2D> idleFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Idle/Main Idle/Main_Idle_data.json");
-            idleAnim = new SpriteAnimation(spriteView, idleSheet, idleFrames, 5);
-            idleBaseHeight = idleFrames.get(0).getHeight();
+            idleAnim = loadAnimation("/Assets/Player/Idle/Main Idle/Main_idle.png", "/Assets/Player/Idle/Main Idle/Main_Idle_data.json", 5);
+            idleBaseHeight = idleAnim.getFrames().get(0).getHeight();
 
 
-            Image runSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Run/Run_sheet.png"));
-            ArrayList<Rectangle2D> runFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Run/Run_data.json");
-            runAnim = new SpriteAnimation(spriteView, runSheet, runFrames, 18);
+            runAnim = loadAnimation("/Assets/Player/Run/Run_sheet.png", "/Assets/Player/Run/Run_data.json", 18);
 
-            Image jumpSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Jump/Jump_sheet.png"));
-            ArrayList<Rectangle2D> jumpFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Jump/Jump_data.json");
-            jumpAnim = new SpriteAnimation(spriteView, jumpSheet, jumpFrames, 9);
-            jumpBaseHeight = jumpFrames.get(0).getHeight();
+            jumpAnim = loadAnimation("/Assets/Player/Jump/Jump_sheet.png", "/Assets/Player/Jump/Jump_data.json", 9);
+            jumpBaseHeight = jumpAnim.getFrames().get(0).getHeight();
 
-            Image crouchIdleSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Crouch Idle/Crouch_Idle.png"));
-            ArrayList<Rectangle2D> crouchIdleFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Crouch Idle/Crouch_Idle_data.json");
-            crouchIdleAnim = new SpriteAnimation(spriteView, crouchIdleSheet, crouchIdleFrames, 5);
+            crouchIdleAnim = loadAnimation("/Assets/Player/Crouch Idle/Crouch_Idle.png", "/Assets/Player/Crouch Idle/Crouch_Idle_data.json", 5);
 
-            Image crouchWalkSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Crouch Walk/Crouch_Walk.png"));
-            ArrayList<Rectangle2D> crouchWalkFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Crouch Walk/Crouch_Walk_data.json");
-            crouchWalkAnim = new SpriteAnimation(spriteView, crouchWalkSheet, crouchWalkFrames, 10);
+            crouchWalkAnim = loadAnimation("/Assets/Player/Crouch Walk/Crouch_Walk.png", "/Assets/Player/Crouch Walk/Crouch_Walk_data.json", 10);
 
             // shoting animation
-            Image shootSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Idle Fire/New folder/sprite_sheet.png"));
-            ArrayList<Rectangle2D> shootFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Idle Fire/New folder/sprite_sheet.json");
-            shootAnim = new SpriteAnimation(spriteView, shootSheet, shootFrames, 20);
+            shootAnim = loadAnimation("/Assets/Player/Idle Fire/New folder/sprite_sheet.png", "/Assets/Player/Idle Fire/New folder/sprite_sheet.json", 20);
 
             // shoot + running animation
-            Image shootRunSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Run Fire/Run_Fire_sheet.png"));
-            ArrayList<Rectangle2D> shootRunFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Run Fire/Run_Fire_data.json");
-            shootRunAnim = new SpriteAnimation(spriteView, shootRunSheet, shootRunFrames, 22);
+            shootRunAnim = loadAnimation("/Assets/Player/Run Fire/Run_Fire_sheet.png", "/Assets/Player/Run Fire/Run_Fire_data.json", 22);
 
             // shoot while croutch animation
-            Image shootCrouchSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Crouch Fire/Crouch_Fire.png"));
-            ArrayList<Rectangle2D> shootCrouchFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Crouch Fire/Crouch_Fire_data.json");
-            shootCrouchAnim = new SpriteAnimation(spriteView, shootCrouchSheet, shootCrouchFrames, 18);
+            shootCrouchAnim = loadAnimation("/Assets/Player/Crouch Fire/Crouch_Fire.png", "/Assets/Player/Crouch Fire/Crouch_Fire_data.json", 18);
 
-            Image deathSheet = new Image(getClass().getResourceAsStream("/Assets/Player/Death/Death.png"));
-            ArrayList<Rectangle2D> deathFrames = SpriteSheetLoader.loadFrames("/Assets/Player/Death/Death_data.json");
-            deathAnim = new SpriteAnimation(spriteView, deathSheet, deathFrames, 10);
+            deathAnim = loadAnimation("/Assets/Player/Death/Death.png", "/Assets/Player/Death/Death_data.json", 10);
 
             idleAnim.setToFirstFrame();
 
@@ -160,58 +131,8 @@ public class Player extends Character {
         }
     }
 
-    private void loadAllSounds(){
-        try {
-        AudioSettings audioSettings = AudioSettings.getInstance();
-        double sfxVol = audioSettings.getSfxVolume();
-        
-        Media media = new Media(getClass().getResource("/Assets/Player/Sounds/Death.wav").toString());
-        deathSound = new MediaPlayer(media);
-        if (sfxVol == 0.0) {
-            deathSound.setMute(true);
-        } else {
-            deathSound.setVolume(sfxVol);
-        }
-
-        Media hit = new Media(getClass().getResource("/Assets/Player/Sounds/Gettinghit.wav").toString());
-        hitSound = new MediaPlayer(hit);
-        if (sfxVol == 0.0) {
-            hitSound.setMute(true);
-        } else {
-            hitSound.setVolume(sfxVol * 0.2);
-        }
-
-        } catch (Exception e) {
-            System.err.println("Failed to load SFX: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    public void updateSoundVolume() {
-        AudioSettings audioSettings = AudioSettings.getInstance();
-        double sfxVol = audioSettings.getSfxVolume();
-        
-        if (deathSound != null) {
-            if (sfxVol == 0.0) {
-                deathSound.setMute(true);
-            } else {
-                deathSound.setMute(false);
-                deathSound.setVolume(sfxVol);
-            }
-        }
-        
-        if (hitSound != null) {
-            if (sfxVol == 0.0) {
-                hitSound.setMute(true);
-            } else {
-                hitSound.setMute(false);
-                hitSound.setVolume(sfxVol * 0.2);
-            }
-        }
-    }
-
     @Override
-    public void update(double cameraX, double sceneWidth) {
+    public void update(double dt, double cameraX, double sceneWidth) {
 
         prevPositionX = positionX;
 
@@ -219,8 +140,6 @@ public class Player extends Character {
             if (currentState != AnimationState.DEATH) {
                 switchAnimation(AnimationState.DEATH);
             }
-            spriteView.setX(positionX - cameraX);
-            spriteView.setY(positionY);
 
 
             if (deathAnim != null && deathAnim.getLoopCount() >= 1 && !isRespawning) {
@@ -243,12 +162,12 @@ public class Player extends Character {
         double currentSpeed = isCrouching ? CROUCH_SPEED : PLAYER_SPEED;
 
         if (leftPressed && positionX > minBoundaryX) {
-            this.positionX -= currentSpeed;
+            this.positionX -= currentSpeed * dt;
             this.facingRight = false;
             isMoving = true;
         }
         if (rightPressed && positionX < maxBoundaryX) {
-            this.positionX += currentSpeed;
+            this.positionX += currentSpeed * dt;
             this.facingRight = true;
             isMoving = true;
         }
@@ -264,20 +183,18 @@ public class Player extends Character {
         }
 
         if (isOnGround) {
-            framesOffGround = 0;
+            timeOffGround = 0;
             if (isRespawning) {
                 isRespawning = false;
             }
         } else {
-            framesOffGround++;
+            timeOffGround += dt;
         }
 
 
         if (shootPressed && currentWeapon.canFire(isMoving , isCrouching)) {
-            Bullet newBullet = currentWeapon.fire(positionX, positionY, facingRight, isCrouching , isMoving );
-            if (newBullet != null) {
-                newBullet.playSound();
-                bullets.add(newBullet);
+            if (currentWeapon.fire(projectiles, positionX, positionY, facingRight, isCrouching , isMoving )) {
+                SfxManager.play(SfxManager.Sound.PLAYER_SHOT);
             }
         }
 
@@ -289,6 +206,11 @@ public class Player extends Character {
             switchAnimation(newState);
         }
 
+    }
+
+    @Override
+    public void captureRenderState(RenderState state) {
+        super.captureRenderState(state);
         double currentScale = scale;
 
         if (currentState == AnimationState.RUN) {
@@ -303,13 +225,8 @@ public class Player extends Character {
         if (currentState == AnimationState.SHOOT) {
             //currentScale = scale * 0.95;
         }
-        spriteView.setScaleX(facingRight ? Math.abs(currentScale) : -Math.abs(currentScale));
-        spriteView.setScaleY(Math.abs(currentScale));
-
-        double visualYOffset = calculateYOffset();
-        spriteView.setX(positionX - cameraX);
-        spriteView.setY(positionY + visualYOffset);
-
+        state.setScale(facingRight ? Math.abs(currentScale) : -Math.abs(currentScale), Math.abs(currentScale));
+        state.offsetY(calculateYOffset());
     }
 
     private double calculateYOffset() {
@@ -359,7 +276,7 @@ public class Player extends Character {
         }
 
 
-        if (!isOnGround && framesOffGround > 5) {
+        if (!isOnGround && timeOffGround > JUMP_ANIMATION_DELAY) {
             return AnimationState.JUMP;
 
         }
@@ -377,7 +294,7 @@ public class Player extends Character {
         }
 
         if (isMoving) {
-            if (isOnGround || framesOffGround <= 15) {
+            if (isOnGround || timeOffGround <= RUN_ANIMATION_GRACE) {
                 return AnimationState.RUN;
             }
         }
@@ -452,8 +369,7 @@ public class Player extends Character {
                 break;
             case DEATH:
                 deathAnim.play();
-                deathSound.seek(javafx.util.Duration.ZERO);
-                deathSound.play();
+                SfxManager.play(SfxManager.Sound.PLAYER_DEATH);
                 break;
         }
     }
@@ -506,6 +422,7 @@ public class Player extends Character {
         
         positionX = respawnX;
         positionY = -100;
+        capturePreviousPosition();
         
         health = maxHealth;
         
@@ -540,9 +457,9 @@ public class Player extends Character {
         setPosition(prevPositionX, this.positionY);
     }
 
-    public Rectangle2D getBounds() {
+    public AABB getBounds() {
         if(currentState == AnimationState.DEATH) {
-            return new Rectangle2D(0, 0 , 0, 0);
+            return bounds.set(0, 0 , 0, 0);
         }
         if (isCrouching) {
             double crouchHeight = CROUCH_HEIGHT + 15;
@@ -550,10 +467,10 @@ public class Player extends Character {
             double reducedHeight = COLLISION_HEIGHT - crouchHeight;
             double crouchOffsetY = COLLISION_OFFSET_Y - 15;
             double flipAdjust = facingRight ? 0 : COLLISION_FLIP_ADJUST;
-            return new Rectangle2D(positionX + COLLISION_OFFSET_X + flipAdjust, positionY + crouchOffsetY + reducedHeight, crouchWidth, crouchHeight);
+            return bounds.set(positionX + COLLISION_OFFSET_X + flipAdjust, positionY + crouchOffsetY + reducedHeight, crouchWidth, crouchHeight);
         } else {
             double flipAdjust = facingRight ? 0 : COLLISION_FLIP_ADJUST;
-            return new Rectangle2D(positionX + COLLISION_OFFSET_X + flipAdjust, positionY + COLLISION_OFFSET_Y, COLLISION_WIDTH, COLLISION_HEIGHT);
+            return bounds.set(positionX + COLLISION_OFFSET_X + flipAdjust, positionY + COLLISION_OFFSET_Y, COLLISION_WIDTH, COLLISION_HEIGHT);
         }
     }
 
@@ -561,8 +478,11 @@ public class Player extends Character {
         this.shootPressed = pressed;
     }
 
-    public ArrayList<Bullet> getBullets() {
-        return bullets;
+
+    @Override
+    public void setClock(SimClock clock) {
+        super.setClock(clock);
+        currentWeapon.setClock(clock);
     }
 
     public Weapon getCurrentWeapon() {
@@ -572,8 +492,7 @@ public class Player extends Character {
     public void takeDamage(int damage) {
 
 
-        hitSound.seek(javafx.util.Duration.ZERO);
-        hitSound.play();
+        SfxManager.play(SfxManager.Sound.PLAYER_HIT);
         super.takeDamage(damage);
 
         if (!isAlive()) {
@@ -0,0 +1,141 @@
+import java.util.Arrays;
+
+// Every live bullet in the game, stored as parallel primitive arrays owned by GameSimulation.
+// Slots 0..count-1 are packed: removal swaps the last slot into the hole, so update and
+// collision loops walk contiguous memory with no per-bullet objects.
+public class ProjectileSystem {
+
+    public static final byte FACTION_PLAYER = 0;
+    public static final byte FACTION_ENEMY = 1;
+
+    public static final double WIDTH = 10;
+    public static final double HEIGHT = 4;
+    private static final double SPEED = 480; // pixels per second
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] velocityX = new double[INITIAL_CAPACITY];
+    private int[] damage = new int[INITIAL_CAPACITY];
+    private byte[] faction = new byte[INITIAL_CAPACITY];
+    private boolean[] alive = new boolean[INITIAL_CAPACITY];
+    // shooter of enemy bullets (despawn cleanup, on-screen rule); null for the player's
+    private Character[] owner = new Character[INITIAL_CAPACITY];
+    private int count;
+
+    public void spawn(double startX, double startY, boolean facingRight, int bulletDamage, byte shooterFaction, Character shooter) {
+        if (count == x.length) {
+            grow();
+        }
+        int i = count++;
+        x[i] = startX;
+        y[i] = startY;
+        previousX[i] = startX;
+        velocityX[i] = facingRight ? SPEED : -SPEED;
+        damage[i] = bulletDamage;
+        faction[i] = shooterFaction;
+        alive[i] = true;
+        owner[i] = shooter;
+    }
+
+    // Moves every bullet, then drops the ones that hit something or left the level
+    public void update(double dt, double levelWidth) {
+        int n = count;
+        for (int i = 0; i < n; i++) {
+            previousX[i] = x[i];
+            x[i] += velocityX[i] * dt;
+        }
+
+        int i = 0;
+        while (i < count) {
+            if (!alive[i] || x[i] < 0 || x[i] > levelWidth) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    public void kill(int i) {
+        alive[i] = false;
+    }
+
+    public void removeOwnedBy(Character shooter) {
+        int i = 0;
+        while (i < count) {
+            if (owner[i] == shooter) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(owner, 0, count, null);
+        count = 0;
+    }
+
+    public AABB getBounds(int i, AABB out) {
+        return out.set(x[i], y[i], WIDTH, HEIGHT);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isAlive(int i) {
+        return alive[i];
+    }
+
+    public byte getFaction(int i) {
+        return faction[i];
+    }
+
+    public Character getOwner(int i) {
+        return owner[i];
+    }
+
+    public int getDamage(int i) {
+        return damage[i];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getPreviousX(int i) {
+        return previousX[i];
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        previousX[i] = previousX[last];
+        velocityX[i] = velocityX[last];
+        damage[i] = damage[last];
+        faction[i] = faction[last];
+        alive[i] = alive[last];
+        owner[i] = owner[last];
+        owner[last] = null;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        faction = Arrays.copyOf(faction, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+    }
+}
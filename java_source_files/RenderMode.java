@@ -0,0 +1,11 @@
+public enum RenderMode {
+    // one ImageView node per entity, moved every frame
+    SCENE_GRAPH,
+    // everything drawn into a single Canvas per frame by CanvasRenderer
+    CANVAS;
+
+    // picked with -Drenderer=canvas; the scene graph stays the default
+    public static RenderMode fromSystemProperty() {
+        return "canvas".equalsIgnoreCase(System.getProperty("renderer")) ? CANVAS : SCENE_GRAPH;
+    }
+}
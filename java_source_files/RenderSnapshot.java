@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// Everything the renderer needs from one simulation tick: camera, entity looks and projectiles.
+// capture() runs wherever the simulation runs; afterwards the snapshot is only read, so the FX
+// thread can draw it while the simulation is already busy with the next tick. Instances are
+// reused and grow to the largest tick seen, so capturing does not allocate once warmed up.
+public class RenderSnapshot {
+
+    private long tickTimeNanos;
+    private double cameraX;
+    private double previousCameraX;
+
+    private final RenderState player = new RenderState();
+    private final ArrayList<RenderState> enemies = new ArrayList<>();
+    private final ArrayList<RenderState> pow = new ArrayList<>();
+    private int enemyCount;
+    private int powCount;
+
+    private double[] projectileX = new double[64];
+    private double[] projectilePreviousX = new double[64];
+    private double[] projectileY = new double[64];
+    private byte[] projectileFaction = new byte[64];
+    private int projectileCount;
+
+    // tickTimeNanos is the System.nanoTime() moment the tick stands for, used to interpolate
+    public void capture(GameSimulation simulation, long tickTimeNanos) {
+        this.tickTimeNanos = tickTimeNanos;
+        cameraX = simulation.getCameraX();
+        previousCameraX = simulation.getPreviousCameraX();
+
+        simulation.getPlayer().captureRenderState(player);
+        enemyCount = captureAll(simulation.getEnemies(), enemies);
+        powCount = captureAll(simulation.getPow(), pow);
+        captureProjectiles(simulation.getProjectiles());
+    }
+
+    private static int captureAll(ArrayList<? extends GameObjects> entities, ArrayList<RenderState> states) {
+        for (int i = 0; i < entities.size(); i++) {
+            if (i == states.size()) {
+                states.add(new RenderState());
+            }
+            entities.get(i).captureRenderState(states.get(i));
+        }
+        return entities.size();
+    }
+
+    private void captureProjectiles(ProjectileSystem projectiles) {
+        projectileCount = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (!projectiles.isAlive(i)) continue;
+
+            if (projectileCount == projectileX.length) {
+                int capacity = projectileCount * 2;
+                projectileX = Arrays.copyOf(projectileX, capacity);
+                projectilePreviousX = Arrays.copyOf(projectilePreviousX, capacity);
+                projectileY = Arrays.copyOf(projectileY, capacity);
+                projectileFaction = Arrays.copyOf(projectileFaction, capacity);
+            }
+            projectileX[projectileCount] = projectiles.getX(i);
+            projectilePreviousX[projectileCount] = projectiles.getPreviousX(i);
+            projectileY[projectileCount] = projectiles.getY(i);
+            projectileFaction[projectileCount] = projectiles.getFaction(i);
+            projectileCount++;
+        }
+    }
+
+    public long getTickTimeNanos() {
+        return tickTimeNanos;
+    }
+
+    public double getCameraX(double alpha) {
+        return previousCameraX + (cameraX - previousCameraX) * alpha;
+    }
+
+    public RenderState getPlayer() {
+        return player;
+    }
+
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    public RenderState getEnemy(int index) {
+        return enemies.get(index);
+    }
+
+    public int getPowCount() {
+        return powCount;
+    }
+
+    public RenderState getPow(int index) {
+        return pow.get(index);
+    }
+
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    public double getProjectileX(int index, double alpha) {
+        double previousX = projectilePreviousX[index];
+        return previousX + (projectileX[index] - previousX) * alpha;
+    }
+
+    public double getProjectileY(int index) {
+        return projectileY[index];
+    }
+
+    public byte getProjectileFaction(int index) {
+        return projectileFaction[index];
+    }
+}
@@ -0,0 +1,82 @@
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+// How one entity should look this frame: its position at the previous and the current tick, its
+// flip and scale, and the animation frame. Filled on the simulation side by
+// GameObjects.captureRenderState and applied to the entity's view on the FX thread, so the
+// renderer never reads live gameplay state.
+public class RenderState {
+
+    private GameObjects owner;
+    private double previousX;
+    private double previousY;
+    private double x;
+    private double y;
+    private double scaleX;
+    private double scaleY;
+    private Image image;
+    private Rectangle2D viewport;
+
+    public void set(GameObjects owner, double previousX, double previousY, double x, double y) {
+        this.owner = owner;
+        this.previousX = previousX;
+        this.previousY = previousY;
+        this.x = x;
+        this.y = y;
+    }
+
+    // pins the sprite in place, e.g. a corpse that should not slide between ticks
+    public void setPosition(double x, double y) {
+        previousX = x;
+        previousY = y;
+        this.x = x;
+        this.y = y;
+    }
+
+    public void offsetY(double offset) {
+        previousY += offset;
+        y += offset;
+    }
+
+    public void setScale(double scaleX, double scaleY) {
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+    }
+
+    public void setFrame(Image image, Rectangle2D viewport) {
+        this.image = image;
+        this.viewport = viewport;
+    }
+
+    public GameObjects getOwner() {
+        return owner;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double interpolateX(double alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    public double interpolateY(double alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
+    public double getScaleX() {
+        return scaleX;
+    }
+
+    public double getScaleY() {
+        return scaleY;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public Rectangle2D getViewport() {
+        return viewport;
+    }
+}
@@ -0,0 +1,39 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+
+// Replays an InputRecording with no window, images or audio and checks that the run ends in the
+// recorded state. Exits with 1 on a mismatch, so it can gate regression runs.
+// Usage: java ReplayRunner <recording>   (JavaFX jars on the classpath, no toolkit needed)
+public class ReplayRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java ReplayRunner <recording>");
+            System.exit(2);
+        }
+        InputRecording recording = InputRecording.load(Paths.get(args[0]));
+
+        Headless.enable();
+        GameSimulation simulation = recording.createSimulation();
+
+        long start = System.nanoTime();
+        long checksum = recording.replay(simulation);
+        long elapsedNs = System.nanoTime() - start;
+
+        Player player = simulation.getPlayer();
+        System.out.printf("replayed %d ticks of level %d at %d Hz in %.1f ms%n",
+                recording.getTickCount(), recording.getLevel(), recording.getTickRate(), elapsedNs / 1_000_000.0);
+        System.out.printf("player x=%.1f health=%d, enemies left=%d%n",
+                player.getPositionX(), player.getHealth(), simulation.getEnemies().size());
+        simulation.dispose();
+
+        if (recording.getChecksum() == 0) {
+            System.out.printf("checksum %016x (recording has none to compare)%n", checksum);
+        } else if (checksum == recording.getChecksum()) {
+            System.out.printf("checksum %016x matches the recording%n", checksum);
+        } else {
+            System.out.printf("checksum %016x, recording has %016x: replay diverged%n", checksum, recording.getChecksum());
+            System.exit(1);
+        }
+    }
+}
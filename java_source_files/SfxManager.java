@@ -0,0 +1,160 @@
+import javafx.scene.media.AudioClip;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioSystem;
+import java.net.URL;
+import java.util.ArrayList;
+
+// Every sound effect is decoded once into AudioClips and played through a bounded set of voices.
+// A voice is one clip instance, so each sound plays at most as many copies at once as it has
+// voices; a new shot restarts that sound's oldest copy. When the global limit is reached a sound
+// steals the oldest voice of equal or lower priority, or is dropped if every busy voice matters
+// more. The volume is read from AudioSettings on every play.
+public class SfxManager {
+
+    public enum Sound {
+        PLAYER_SHOT("/Assets/Player/Sounds/Shoot3.wav", 1.0, 4, 2),
+        ENEMY_SHOT("/Assets/Enemies/Sounds/Shoot1.wav", 1.0, 4, 1),
+        PLAYER_HIT("/Assets/Player/Sounds/Gettinghit.wav", 0.2, 2, 2),
+        PLAYER_DEATH("/Assets/Player/Sounds/Death.wav", 1.0, 1, 3),
+        ENEMY_DEATH("/Assets/Enemies/Sounds/Death.wav", 1.0, 3, 1);
+
+        final String path;
+        final double gain;
+        final int voices;
+        final int priority;
+
+        Sound(String path, double gain, int voices, int priority) {
+            this.path = path;
+            this.gain = gain;
+            this.voices = voices;
+            this.priority = priority;
+        }
+    }
+
+    private static final int MAX_VOICES = 10;
+    // used when the WAV header does not give a length
+    private static final long DEFAULT_LENGTH_NANOS = 1_000_000_000L;
+
+    private static class Voice {
+        final Sound sound;
+        final AudioClip clip;
+        final long lengthNanos;
+        long startedNanos;
+        long endNanos;
+
+        Voice(Sound sound, AudioClip clip, long lengthNanos) {
+            this.sound = sound;
+            this.clip = clip;
+            this.lengthNanos = lengthNanos;
+        }
+
+        boolean isBusy(long now) {
+            return endNanos > now;
+        }
+    }
+
+    private static final ArrayList<Voice> voices = new ArrayList<>();
+    private static boolean loaded;
+
+    // Decodes every sound up front; called while the level loads so the first shot has no delay
+    public static synchronized void load() {
+        if (loaded || Headless.isEnabled()) {
+            return;
+        }
+        loaded = true;
+        for (Sound sound : Sound.values()) {
+            URL url = SfxManager.class.getResource(sound.path);
+            if (url == null) {
+                System.err.println("Missing sound effect: " + sound.path);
+                continue;
+            }
+            long lengthNanos = lengthNanos(url);
+            for (int i = 0; i < sound.voices; i++) {
+                voices.add(new Voice(sound, new AudioClip(url.toString()), lengthNanos));
+            }
+        }
+    }
+
+    public static synchronized void play(Sound sound) {
+        double volume = AudioSettings.getInstance().getSfxVolume() * sound.gain;
+        if (Headless.isEnabled() || volume <= 0.0) {
+            return;
+        }
+        load();
+
+        long now = System.nanoTime();
+        Voice free = null;
+        Voice oldestOwn = null;
+        int busy = 0;
+        for (Voice voice : voices) {
+            boolean isBusy = voice.isBusy(now);
+            if (isBusy) busy++;
+            if (voice.sound != sound) continue;
+            if (!isBusy) {
+                free = voice;
+            } else if (oldestOwn == null || voice.startedNanos < oldestOwn.startedNanos) {
+                oldestOwn = voice;
+            }
+        }
+
+        Voice voice;
+        if (free == null) {
+            // the sound is at its own limit: retrigger its oldest copy
+            voice = oldestOwn;
+        } else if (busy < MAX_VOICES) {
+            voice = free;
+        } else {
+            Voice victim = findVictim(sound.priority, now);
+            if (victim == null) {
+                return;
+            }
+            victim.clip.stop();
+            victim.endNanos = now;
+            voice = free;
+        }
+        if (voice == null) {
+            return;
+        }
+
+        voice.clip.stop();
+        voice.clip.play(volume);
+        voice.startedNanos = now;
+        voice.endNanos = now + voice.lengthNanos;
+    }
+
+    public static synchronized void stopAll() {
+        for (Voice voice : voices) {
+            voice.clip.stop();
+            voice.endNanos = 0;
+        }
+    }
+
+    // the busy voice with the lowest priority, oldest first, that a sound of this priority may take
+    private static Voice findVictim(int priority, long now) {
+        Voice victim = null;
+        for (Voice voice : voices) {
+            if (!voice.isBusy(now) || voice.sound.priority > priority) continue;
+            if (victim == null
+                    || voice.sound.priority < victim.sound.priority
+                    || (voice.sound.priority == victim.sound.priority && voice.startedNanos < victim.startedNanos)) {
+                victim = voice;
+            }
+        }
+        return victim;
+    }
+
+    private static long lengthNanos(URL url) {
+        try {
+            AudioFileFormat format = AudioSystem.getAudioFileFormat(url);
+            long frames = format.getFrameLength();
+            float frameRate = format.getFormat().getFrameRate();
+            if (frames > 0 && frameRate > 0) {
+                return (long) (frames / frameRate * 1_000_000_000L);
+            }
+        } catch (Exception e) {
+            System.err.println("Could not read the length of " + url + ": " + e.getMessage());
+        }
+        return DEFAULT_LENGTH_NANOS;
+    }
+}
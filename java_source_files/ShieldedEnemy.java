@@ -1,19 +1,15 @@
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.geometry.Rectangle2D;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.paint.Color;
-import java.util.ArrayList;
 
 public class ShieldedEnemy extends Enemy {
 
     private static final double COLLISION_WIDTH = 65;
     private static final double COLLISION_HEIGHT = 115;
     private static final double MELEE_RANGE = 80;
-    private static final double CHASE_SPEED = 1.8;
+    private static final double CHASE_SPEED = 108; // pixels per second
     private static final double ATTACK_COOLDOWN = 2.5;
     private static final double ACTIVATION_DISTANCE = 600;
-    private static final double RUN_IN_SPEED = 1.5;
+    private static final double RUN_IN_SPEED = 90;
 
     private SpriteAnimation runAnim;
     private SpriteAnimation meleeAnim;
@@ -28,6 +24,7 @@ public class ShieldedEnemy extends Enemy {
     private double scale;
     private boolean hasBeenActivated;
     private double deathPositionX;
+    private final AABB meleeBounds = new AABB();
 
     public ShieldedEnemy( double spawnX, double y) {
         super(spawnX, y, 70, CHASE_SPEED, 10);
@@ -40,12 +37,11 @@ public class ShieldedEnemy extends Enemy {
         this.isVulnerable = false;
         this.facingRight = false;
         this.isActive = false;
-        this.lastAttackTime = 0;
+        this.lastAttackTime = SimClock.NEVER;
+        this.lastDamageTime = SimClock.NEVER;
         this.hasBeenActivated = false;
 
-        this.spriteView = new ImageView();
-        spriteView.setScaleX(scale);
-        spriteView.setScaleY(scale);
+        setViewScale(scale);
 
         loadAnimations();
         runAnim.play();
@@ -53,20 +49,14 @@ public class ShieldedEnemy extends Enemy {
 
     private void loadAnimations() {
         try {
-            Image runSheet = new Image(getClass().getResourceAsStream("/Assets/Enemies/Shielded Soldier/Run/Run.png"));
-            ArrayList<Rectangle2D> runFrames = SpriteSheetLoader.loadFrames("/Assets/Enemies/Shielded Soldier/Run/Run_data.json");
-            runAnim = new SpriteAnimation(spriteView, runSheet, runFrames, 10);
+            runAnim = loadAnimation("/Assets/Enemies/Shielded Soldier/Run/Run.png", "/Assets/Enemies/Shielded Soldier/Run/Run_data.json", 10);
             runAnim.setToFirstFrame();
             runAnim.play();
 
-            Image meleeSheet = new Image(getClass().getResourceAsStream("/Assets/Enemies/Shielded Soldier/Attack/Attack.png"));
-            ArrayList<Rectangle2D> meleeFrames = SpriteSheetLoader.loadFrames("/Assets/Enemies/Shielded Soldier/Attack/Attack_data.json");
-            meleeAnim = new SpriteAnimation(spriteView, meleeSheet, meleeFrames, 10);
+            meleeAnim = loadAnimation("/Assets/Enemies/Shielded Soldier/Attack/Attack.png", "/Assets/Enemies/Shielded Soldier/Attack/Attack_data.json", 10);
             meleeAnim.setToFirstFrame();
 
-            Image deathSheet = new Image(getClass().getResourceAsStream("/Assets/Enemies/Shielded Soldier/Death/Death.png"));
-            ArrayList<Rectangle2D> deathFrames = SpriteSheetLoader.loadFrames("/Assets/Enemies/Shielded Soldier/Death/Death_data.json");
-            deathAnim = new SpriteAnimation(spriteView, deathSheet, deathFrames, 8);
+            deathAnim = loadAnimation("/Assets/Enemies/Shielded Soldier/Death/Death.png", "/Assets/Enemies/Shielded Soldier/Death/Death_data.json", 8);
 
         } catch (Exception e) {
             System.err.println("Failed to load ShieldedEnemy animations: " + e.getMessage());
@@ -75,28 +65,33 @@ public class ShieldedEnemy extends Enemy {
     }
 
     @Override
-    public void update(double cameraX, double sceneWidth) {
+    public void update(double dt, double cameraX, double sceneWidth) {
+        // all movement happens in updateBehavior
+    }
+
+    @Override
+    public void captureRenderState(RenderState state) {
+        super.captureRenderState(state);
+        state.setScale(facingRight ? -Math.abs(scale) : Math.abs(scale), state.getScaleY());
+
         if (!isAlive()) {
 
-            spriteView.setX(deathPositionX - cameraX);
             double yOffset = 20;
-            spriteView.setY(positionY + yOffset);
+            state.setPosition(deathPositionX, positionY + yOffset);
             return;
         }
 
-        spriteView.setX(positionX - cameraX);
-        
         double yOffset = 0;
         if (currentState == EnemyState.RUNNING_IN || currentState == EnemyState.CHASING) {
             yOffset = 20;
         } else if (currentState == EnemyState.DYING) {
             yOffset = 20;
         }
-        spriteView.setY(positionY + yOffset);
+        state.offsetY(yOffset);
 
     }
 
-    public void updateBehavior(Player player) {
+    public void updateBehavior(double dt, Player player) {
         if (!isAlive() || !isActive) return;
 
         if (!hasBeenActivated) {
@@ -105,7 +100,7 @@ public class ShieldedEnemy extends Enemy {
         }
 
         double distanceToPlayer = Math.abs(positionX - player.getPositionX());
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getTimeMillis();
         double timeSinceAttack = (currentTime - lastAttackTime) / 1000.0;
 
         if (player.isOnGround() && currentState != EnemyState.DYING) {
@@ -114,7 +109,7 @@ public class ShieldedEnemy extends Enemy {
 
         if (currentState != EnemyState.DYING) {
             if (currentState == EnemyState.RUNNING_IN) {
-                positionX += (facingRight ? RUN_IN_SPEED : -RUN_IN_SPEED);
+                positionX += (facingRight ? RUN_IN_SPEED : -RUN_IN_SPEED) * dt;
 
                 if (distanceToPlayer <= MELEE_RANGE) {
                     switchState(EnemyState.MELEE_ATTACK);
@@ -126,7 +121,7 @@ public class ShieldedEnemy extends Enemy {
                     switchState(EnemyState.MELEE_ATTACK);
                     lastAttackTime = currentTime;
                 } else {
-                    positionX += (facingRight ? speed : -speed);
+                    positionX += (facingRight ? speed : -speed) * dt;
                 }
                 isVulnerable = false;
             }
@@ -148,8 +143,6 @@ public class ShieldedEnemy extends Enemy {
                 health = 0;
             }
         }
-
-        spriteView.setScaleX(facingRight ? -Math.abs(scale) : Math.abs(scale));
     }
 
 
@@ -160,7 +153,7 @@ public class ShieldedEnemy extends Enemy {
         double distanceToPlayer = Math.abs(positionX - player.getPositionX());
         if (distanceToPlayer > MELEE_RANGE) return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getTimeMillis();
         double timeSinceLastDamage = (currentTime - lastDamageTime) / 1000.0;
 
         if (timeSinceLastDamage >= 0.3) {
@@ -235,15 +228,15 @@ public class ShieldedEnemy extends Enemy {
                 break;
             case DYING:
                 deathAnim.play();
-                deathSound.play();
+                SfxManager.play(SfxManager.Sound.ENEMY_DEATH);
 
                 break;
         }
     }
 
 
-    public Rectangle2D getBounds() {
-        return new Rectangle2D(positionX, positionY + Player.COLLISION_OFFSET_Y, COLLISION_WIDTH, COLLISION_HEIGHT);
+    public AABB getBounds() {
+        return bounds.set(positionX, positionY + Player.COLLISION_OFFSET_Y, COLLISION_WIDTH, COLLISION_HEIGHT);
     }
 
 
@@ -289,7 +282,7 @@ public class ShieldedEnemy extends Enemy {
         return isActive;
     }
 
-    public Rectangle2D getMeeleBounds(){
-        return new Rectangle2D(positionX - 80, positionY + Player.COLLISION_OFFSET_Y, COLLISION_WIDTH + 80, COLLISION_HEIGHT);
+    public AABB getMeeleBounds(){
+        return meleeBounds.set(positionX - 80, positionY + Player.COLLISION_OFFSET_Y, COLLISION_WIDTH + 80, COLLISION_HEIGHT);
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+// Simulation time owned by the GameEngine. Only advances when a tick runs,
+// so cooldowns stop while paused and a run is reproducible tick for tick.
+public class SimClock {
+
+    // timestamp for "never happened", far enough back that any cooldown has expired
+    public static final long NEVER = Long.MIN_VALUE / 2;
+
+    private long tickCount;
+    private long timeNanos;
+    private long tickNanos;
+    private int ticksPerSecond;
+
+    public SimClock(int ticksPerSecond) {
+        setTickRate(ticksPerSecond);
+    }
+
+    public void setTickRate(int ticksPerSecond) {
+        this.ticksPerSecond = ticksPerSecond;
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+    }
+
+    public int getTickRate() {
+        return ticksPerSecond;
+    }
+
+    public void advance() {
+        tickCount++;
+        timeNanos += tickNanos;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public double getTickSeconds() {
+        return tickNanos / 1_000_000_000.0;
+    }
+
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public long getTimeMillis() {
+        return timeNanos / 1_000_000;
+    }
+}
@@ -0,0 +1,104 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+// Runs the fixed-step simulation on its own thread (-Dsim.thread=true) so heavy ticks never
+// hold up an FX pulse. After every tick it captures a RenderSnapshot into a triple buffer: the
+// simulation fills one snapshot, the FX thread draws another, and the third holds the latest
+// published tick. Publishing and taking are a single atomic swap each, so neither side ever
+// waits for the other and the FX thread always sees a complete tick.
+public class SimulationThread {
+
+    // same spiral guard as the FX loop
+    private static final int MAX_TICKS_BEHIND = 8;
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final GameSimulation simulation;
+    private final LongConsumer tick;
+    private final RenderSnapshot[] buffers = new RenderSnapshot[3];
+    // index of the latest published snapshot, plus FRESH until the FX thread has taken it
+    private final AtomicInteger latest = new AtomicInteger(1);
+    private int back = 0;   // simulation thread only
+    private int front = 2;  // FX thread only
+
+    private final Thread thread;
+    private volatile boolean running;
+    private volatile boolean paused;
+
+    // tick gets the wall-clock deadline of each tick and must do everything but the snapshot
+    public SimulationThread(GameSimulation simulation, LongConsumer tick) {
+        this.simulation = simulation;
+        this.tick = tick;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new RenderSnapshot();
+            // the FX thread may draw before the first tick is published
+            buffers[i].capture(simulation, System.nanoTime());
+        }
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    // Returns once the thread has finished its current tick, so the simulation can be touched again
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // FX thread: the newest published snapshot, or the one it already had if nothing new arrived
+    public RenderSnapshot takeSnapshot() {
+        if ((latest.get() & FRESH) != 0) {
+            front = latest.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+
+    private void publish() {
+        back = latest.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        while (running) {
+            if (paused) {
+                LockSupport.park(this);
+                // pause time does not count as a backlog
+                nextTick = System.nanoTime();
+                continue;
+            }
+
+            long tickNanos = (long) (simulation.getSimClock().getTickSeconds() * 1_000_000_000L);
+            long now = System.nanoTime();
+            if (now < nextTick) {
+                LockSupport.parkNanos(this, nextTick - now);
+                continue;
+            }
+            if (now - nextTick > MAX_TICKS_BEHIND * tickNanos) {
+                // too far behind (stall, debugger...) so drop the backlog instead of spiralling
+                nextTick = now;
+            }
+
+            tick.accept(nextTick);
+            buffers[back].capture(simulation, nextTick);
+            publish();
+            nextTick += tickNanos;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+
+// Uniform grid broadphase, cleared and refilled every tick. Each item goes only into the cell
+// holding its top-left corner, and queries widen their box by the largest item inserted,
+// so no item is ever reported twice and nothing needs de-duplicating.
+public class SpatialGrid<T> {
+
+    private final double cellSize;
+    private int columns;
+    private int rows;
+    private ArrayList<ArrayList<T>> cells;
+
+    // cells touched since the last clear, so clearing does not walk the whole level
+    private int[] usedCells;
+    private int usedCount;
+
+    private double maxItemWidth;
+    private double maxItemHeight;
+
+    public SpatialGrid(double cellSize) {
+        this.cellSize = cellSize;
+        resize(cellSize, cellSize);
+    }
+
+    public void resize(double worldWidth, double worldHeight) {
+        int newColumns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        int newRows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        if (newColumns == columns && newRows == rows) {
+            return;
+        }
+        columns = newColumns;
+        rows = newRows;
+        int cellCount = columns * rows;
+        cells = new ArrayList<>(cellCount);
+        for (int i = 0; i < cellCount; i++) {
+            cells.add(new ArrayList<>());
+        }
+        usedCells = new int[cellCount];
+        usedCount = 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < usedCount; i++) {
+            cells.get(usedCells[i]).clear();
+        }
+        usedCount = 0;
+        maxItemWidth = 0;
+        maxItemHeight = 0;
+    }
+
+    public void insert(T item, AABB bounds) {
+        int index = row(bounds.getMinY()) * columns + column(bounds.getMinX());
+        ArrayList<T> cell = cells.get(index);
+        if (cell.isEmpty()) {
+            usedCells[usedCount++] = index;
+        }
+        cell.add(item);
+
+        maxItemWidth = Math.max(maxItemWidth, bounds.getWidth());
+        maxItemHeight = Math.max(maxItemHeight, bounds.getHeight());
+    }
+
+    // Fills out with every item whose corner cell could put it inside bounds, each exactly once.
+    public void query(AABB bounds, ArrayList<T> out) {
+        out.clear();
+        int minCol = column(bounds.getMinX() - maxItemWidth);
+        int maxCol = column(bounds.getMaxX());
+        int minRow = row(bounds.getMinY() - maxItemHeight);
+        int maxRow = row(bounds.getMaxY());
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                out.addAll(cells.get(r * columns + c));
+            }
+        }
+    }
+
+    // anything outside the world is clamped into the edge cells
+    private int column(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return Math.max(0, Math.min(columns - 1, c));
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+}
@@ -1,13 +1,12 @@
-import javafx.animation.AnimationTimer;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import java.util.ArrayList;
+import java.util.List;
 
 public class SpriteAnimation {
-    private final ImageView imageView;
+    // frames go to the owner, which hands them to the renderer through its RenderState
+    private final GameObjects owner;
     private final Image spriteSheet;
-    private final ArrayList<Rectangle2D> frames;
+    private final List<Rectangle2D> frames;
     private final long frameDurationNs;
 
     private int currentFrame = 0;
@@ -15,38 +14,31 @@ public class SpriteAnimation {
     private boolean isPlaying = false;
     private int loopCount = 0;
 
-    private final AnimationTimer animationTimer;
-
-    public SpriteAnimation(ImageView imageView, Image spriteSheet, ArrayList<Rectangle2D> frames, double fps) {
-        this.imageView = imageView;
+    public SpriteAnimation(GameObjects owner, Image spriteSheet, List<Rectangle2D> frames, double fps) {
+        this.owner = owner;
         this.spriteSheet = spriteSheet;
         this.frames = frames;
         this.frameDurationNs = (long)(1_000_000_000.0 / fps);
+    }
 
-        this.animationTimer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (!isPlaying) return;
-
-                long elapsedNs = now - lastUpdateTime;
-
-                if (elapsedNs >= frameDurationNs) {
-                    currentFrame = currentFrame + 1;
+    // Called once per pulse by the engine's AnimationClock
+    public void tick(long now) {
+        if (!isPlaying) return;
 
-                    if (currentFrame >= frames.size()) {
-                        currentFrame = 0;
-                        loopCount++;
-                    }
+        long elapsedNs = now - lastUpdateTime;
 
-                    Rectangle2D frame = frames.get(currentFrame);
-                    imageView.setViewport(frame);
+        if (elapsedNs >= frameDurationNs) {
+            currentFrame = currentFrame + 1;
 
-                    lastUpdateTime = now;
-                }
+            if (currentFrame >= frames.size()) {
+                currentFrame = 0;
+                loopCount++;
             }
-        };
 
-        animationTimer.start();
+            showFrame(currentFrame);
+
+            lastUpdateTime = now;
+        }
     }
 
     public void play() {
@@ -55,14 +47,13 @@ public class SpriteAnimation {
             return;
         }
 
-        imageView.setImage(spriteSheet);
-
         currentFrame = 0;
         loopCount = 0;
         lastUpdateTime = 0;
         isPlaying = true;
 
-        imageView.setViewport(frames.get(0));
+        owner.setFrameImage(spriteSheet);
+        showFrame(0);
     }
 
     public void stop() {
@@ -72,17 +63,25 @@ public class SpriteAnimation {
         lastUpdateTime = 0;
 
         if (frames != null && !frames.isEmpty()) {
-            imageView.setViewport(frames.get(0));
+            showFrame(0);
         }
     }
 
     public void setToFirstFrame() {
         if (frames != null && !frames.isEmpty()) {
-            imageView.setImage(spriteSheet);
-            imageView.setViewport(frames.get(0));
+            owner.setFrameImage(spriteSheet);
+            owner.setFrameViewport(frames.get(0));
         }
     }
 
+    private void showFrame(int index) {
+        owner.setFrameViewport(frames.get(index));
+    }
+
+    public void dispose() {
+        isPlaying = false;
+    }
+
     public boolean isPlaying() {
         return isPlaying;
     }
@@ -90,4 +89,8 @@ public class SpriteAnimation {
     public int getLoopCount() {
         return loopCount;
     }
+
+    public List<Rectangle2D> getFrames() {
+        return frames;
+    }
 }
\ No newline at end of file
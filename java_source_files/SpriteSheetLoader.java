@@ -3,6 +3,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import javafx.geometry.Rectangle2D;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
@@ -10,7 +11,16 @@ import java.util.ArrayList;
 
 public class SpriteSheetLoader {
 
+    // Frames come from the compiled FrameTable; the JSON is only parsed for sheets it does not list
     public static ArrayList<Rectangle2D> loadFrames(String resourcePath) {
+        int[] compiled = FrameTable.get(resourcePath);
+        if (compiled != null) {
+            return toRectangles(compiled);
+        }
+        return loadFramesFromJson(resourcePath);
+    }
+
+    public static ArrayList<Rectangle2D> loadFramesFromJson(String resourcePath) {
         ArrayList<Rectangle2D> frames = new ArrayList<>();
 
         try {
@@ -20,17 +30,9 @@ public class SpriteSheetLoader {
                 return frames;
             }
 
-            JsonObject root = JsonParser.parseReader(new InputStreamReader(is)).getAsJsonObject();
-            JsonArray sprites = root.getAsJsonArray("sprites");
-
-            for (JsonElement element : sprites) {
-                JsonObject sprite = element.getAsJsonObject();
-                int x = sprite.get("x").getAsInt();
-                int y = sprite.get("y").getAsInt();
-                int width = sprite.get("width").getAsInt();
-                int height = sprite.get("height").getAsInt();
-
-                frames.add(new Rectangle2D(x, y, width, height));
+            int[] parsed = parseFrames(resourcePath, is);
+            if (parsed != null) {
+                frames = toRectangles(parsed);
             }
 
             System.out.println("Successfully loaded " + frames.size() + " frames with Gson");
@@ -42,4 +44,36 @@ public class SpriteSheetLoader {
 
         return frames;
     }
-}
\ No newline at end of file
+
+    // x, y, width, height per frame, or null if the JSON has no sprites array
+    public static int[] parseFrames(String resourcePath, InputStream is) {
+        try (InputStreamReader reader = new InputStreamReader(is)) {
+            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+            JsonArray sprites = root.getAsJsonArray("sprites");
+            if (sprites == null) {
+                return null;
+            }
+
+            int[] frames = new int[sprites.size() * 4];
+            int i = 0;
+            for (JsonElement element : sprites) {
+                JsonObject sprite = element.getAsJsonObject();
+                frames[i++] = sprite.get("x").getAsInt();
+                frames[i++] = sprite.get("y").getAsInt();
+                frames[i++] = sprite.get("width").getAsInt();
+                frames[i++] = sprite.get("height").getAsInt();
+            }
+            return frames;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + resourcePath, e);
+        }
+    }
+
+    private static ArrayList<Rectangle2D> toRectangles(int[] frames) {
+        ArrayList<Rectangle2D> rectangles = new ArrayList<>(frames.length / 4);
+        for (int i = 0; i < frames.length; i += 4) {
+            rectangles.add(new Rectangle2D(frames[i], frames[i + 1], frames[i + 2], frames[i + 3]));
+        }
+        return rectangles;
+    }
+}
@@ -0,0 +1,89 @@
+import javafx.geometry.Rectangle2D;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+// Where AtlasPacker put each sprite sheet. A packed sheet is loaded as its atlas image and its
+// frame rectangles are shifted by the sheet's offset, so SpriteAnimation never knows the
+// difference. Sheets missing from the index are loaded on their own as before.
+public class TextureAtlas {
+
+    public static final String INDEX = "/Assets/atlas/atlas.bin";
+    public static final int MAGIC = 0x41544C31; // "ATL1"
+
+    public static class Region {
+        private final String atlasPath;
+        private final int x;
+        private final int y;
+
+        Region(String atlasPath, int x, int y) {
+            this.atlasPath = atlasPath;
+            this.x = x;
+            this.y = y;
+        }
+
+        public String getAtlasPath() {
+            return atlasPath;
+        }
+
+        // the sheet's frames in atlas coordinates
+        public List<Rectangle2D> translate(List<Rectangle2D> frames) {
+            ArrayList<Rectangle2D> translated = new ArrayList<>(frames.size());
+            for (Rectangle2D frame : frames) {
+                translated.add(new Rectangle2D(frame.getMinX() + x, frame.getMinY() + y, frame.getWidth(), frame.getHeight()));
+            }
+            return translated;
+        }
+    }
+
+    // loaded once, on whichever thread asks first
+    private static class Holder {
+        static final HashMap<String, Region> REGIONS = load();
+    }
+
+    // null when the sheet was not packed
+    public static Region find(String sheetPath) {
+        return Holder.REGIONS.get(sheetPath);
+    }
+
+    // the image that actually has to be decoded for a sheet
+    public static String resolveImage(String sheetPath) {
+        Region region = find(sheetPath);
+        return region == null ? sheetPath : region.atlasPath;
+    }
+
+    private static HashMap<String, Region> load() {
+        HashMap<String, Region> regions = new HashMap<>();
+        try (InputStream in = TextureAtlas.class.getResourceAsStream(INDEX)) {
+            if (in == null) {
+                return regions;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(in.readAllBytes());
+            if (buffer.getInt() != MAGIC) {
+                System.err.println("Ignoring " + INDEX + ": not an atlas index");
+                return regions;
+            }
+            int entryCount = buffer.getInt();
+            for (int i = 0; i < entryCount; i++) {
+                String sheetPath = readString(buffer);
+                String atlasPath = readString(buffer);
+                regions.put(sheetPath, new Region(atlasPath, buffer.getInt(), buffer.getInt()));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to read " + INDEX + ": " + e.getMessage());
+            regions.clear();
+        }
+        return regions;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
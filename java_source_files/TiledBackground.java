@@ -0,0 +1,219 @@
+import javafx.scene.Group;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+// A level background cut into fixed-width tiles. Only the tiles under the camera (plus one on
+// each side) are decoded; the rest are dropped, so texture memory does not grow with level
+// length and no single texture has to be as wide as the level.
+// Tiles come from <name>_tiles/tile_<i>.png next to the source image, which the build pre-cuts
+// with BackgroundTiler. Without them each tile is decoded as a region of the source image on the
+// asset decode pool; either way the tile stays empty until its pixels are ready, so the FX
+// thread never decodes.
+// The tile layout itself lives in BackgroundTiler so the build-time tool needs no JavaFX.
+public class TiledBackground {
+
+    private static final int KEEP_AROUND = 1;
+
+    private final String sourcePath;
+    private final String tilePrefix;
+    private final double levelWidth;
+    private final double levelHeight;
+    private final double offsetY;
+    private final int tileCount;
+
+    private final Image[] tiles;
+    private final boolean[] loading;
+    // a tile that could not be loaded is logged once and then left empty, never retried
+    private final boolean[] failed;
+    // bumped when a tile is evicted, so a fallback decode that finishes afterwards is dropped
+    private final int[] generations;
+    private final ImageView[] views;
+    private final Group node;
+
+    public TiledBackground(String sourcePath, double levelWidth, double levelHeight, double offsetY) {
+        this.sourcePath = sourcePath;
+        this.tilePrefix = BackgroundTiler.tileDirectory(sourcePath) + "/tile_";
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+        this.offsetY = offsetY;
+        this.tileCount = BackgroundTiler.tileCount(levelWidth);
+        this.tiles = new Image[tileCount];
+        this.loading = new boolean[tileCount];
+        this.failed = new boolean[tileCount];
+        this.generations = new int[tileCount];
+        this.views = new ImageView[tileCount];
+
+        if (Headless.isEnabled()) {
+            node = null;
+            return;
+        }
+        node = new Group();
+        node.setLayoutY(offsetY);
+        for (int i = 0; i < tileCount; i++) {
+            ImageView view = new ImageView();
+            view.setX(BackgroundTiler.tileStart(i));
+            view.setFitWidth(BackgroundTiler.tileEnd(i, levelWidth) - BackgroundTiler.tileStart(i));
+            view.setFitHeight(levelHeight);
+            views[i] = view;
+        }
+    }
+
+    // Scene-graph node holding the decoded tiles; null in headless mode
+    public Group getNode() {
+        return node;
+    }
+
+    // Requests the tiles near the camera and evicts the others
+    public void update(double cameraX, double viewWidth) {
+        if (node == null) {
+            return;
+        }
+        int first = Math.max(0, (int) Math.floor(cameraX / BackgroundTiler.TILE_WIDTH) - KEEP_AROUND);
+        int last = Math.min(tileCount - 1, (int) Math.floor((cameraX + viewWidth) / BackgroundTiler.TILE_WIDTH) + KEEP_AROUND);
+
+        for (int i = 0; i < tileCount; i++) {
+            boolean wanted = i >= first && i <= last;
+            if (tiles[i] != null && tiles[i].isError()) {
+                // pre-cut tiles load in the background and report failure on the image
+                markFailed(i, tiles[i].getException());
+                evict(i);
+            }
+            if (wanted && tiles[i] == null && !loading[i] && !failed[i]) {
+                requestTile(i);
+            } else if (!wanted && (tiles[i] != null || loading[i])) {
+                evict(i);
+            }
+        }
+    }
+
+    // Canvas path: draws the resident tiles that overlap the camera, in screen space
+    public void draw(GraphicsContext gc, double cameraX, double viewWidth) {
+        for (int i = 0; i < tileCount; i++) {
+            Image tile = tiles[i];
+            if (tile == null || tile.getWidth() == 0) continue;
+            double start = BackgroundTiler.tileStart(i);
+            double end = BackgroundTiler.tileEnd(i, levelWidth);
+            if (end < cameraX || start > cameraX + viewWidth) continue;
+            gc.drawImage(tile, start - cameraX, offsetY, end - start, levelHeight);
+        }
+    }
+
+    public void dispose() {
+        for (int i = 0; i < tileCount; i++) {
+            tiles[i] = null;
+            loading[i] = false;
+            generations[i]++;
+            if (views[i] != null) {
+                views[i].setImage(null);
+            }
+        }
+        if (node != null) {
+            node.getChildren().clear();
+        }
+    }
+
+    private void requestTile(int index) {
+        URL preCut = TiledBackground.class.getResource(tilePrefix + index + ".png");
+        if (preCut != null) {
+            // background loading; the view fills in once it is ready
+            showTile(index, new Image(preCut.toExternalForm(), true));
+            return;
+        }
+
+        loading[index] = true;
+        int generation = generations[index];
+        CompletableFuture.supplyAsync(() -> decodeRegion(index), AssetPreloader.getPool())
+                .whenComplete((image, error) -> javafx.application.Platform.runLater(
+                        () -> finishDecode(index, generation, image, error)));
+    }
+
+    // FX thread, once a fallback decode is done
+    private void finishDecode(int index, int generation, Image image, Throwable error) {
+        if (generation != generations[index]) {
+            return;
+        }
+        loading[index] = false;
+        if (error != null) {
+            markFailed(index, error.getCause() != null ? error.getCause() : error);
+            return;
+        }
+        showTile(index, image);
+    }
+
+    private void markFailed(int index, Throwable cause) {
+        failed[index] = true;
+        String reason = cause == null ? "unknown error" : cause.getMessage();
+        System.err.println("Failed to load background tile " + index + " of " + sourcePath + ": " + reason);
+    }
+
+    private void showTile(int index, Image image) {
+        tiles[index] = image;
+        views[index].setImage(image);
+        node.getChildren().add(views[index]);
+    }
+
+    private void evict(int index) {
+        generations[index]++;
+        loading[index] = false;
+        if (tiles[index] != null) {
+            tiles[index] = null;
+            views[index].setImage(null);
+            node.getChildren().remove(views[index]);
+        }
+    }
+
+    // Runs on the decode pool. PNG rows are still inflated down to the region, which is why
+    // the build pre-cuts the tiles
+    private Image decodeRegion(int index) {
+        InputStream source = TiledBackground.class.getResourceAsStream(sourcePath);
+        if (source == null) {
+            throw new UncheckedIOException(new IOException(sourcePath + " not found"));
+        }
+        try (InputStream stream = source;
+             ImageInputStream in = ImageIO.createImageInputStream(stream)) {
+            ImageReader reader = firstReader(in);
+            try {
+                reader.setInput(in, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(BackgroundTiler.sourceRegion(index, levelWidth, reader.getWidth(0), reader.getHeight(0)));
+                return toFxImage(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ImageReader firstReader(ImageInputStream in) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            throw new IllegalStateException("no image reader for background");
+        }
+        return readers.next();
+    }
+
+    private static Image toFxImage(BufferedImage region) {
+        int width = region.getWidth();
+        int height = region.getHeight();
+        int[] argb = region.getRGB(0, 0, width, height, null, 0, width);
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return image;
+    }
+}
@@ -0,0 +1,100 @@
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+// Keeps only the nodes near the camera attached to the scene graph, so pulse and render cost
+// follow what is on screen rather than the level's length. Entities are placed by the position
+// in the frame's RenderSnapshot, never by live simulation state, and a culled entity's view is
+// not laid out at all; its animation timing keeps running because gameplay depends on it.
+public class VisibilityManager {
+
+    // wide enough to cover scaled sprites whose position is their left edge
+    public static final double MARGIN = 300;
+
+    private final ArrayList<Entry> staticEntries = new ArrayList<>();
+    private final IdentityHashMap<GameObjects, Entry> entityEntries = new IdentityHashMap<>();
+
+    private static class Entry {
+        final Node node;
+        final Group layer;
+        final double minX;
+        final double maxX;
+        boolean attached;
+
+        Entry(Node node, Group layer, double minX, double maxX) {
+            this.node = node;
+            this.layer = layer;
+            this.minX = minX;
+            this.maxX = maxX;
+        }
+    }
+
+    public static boolean isInWindow(double minX, double maxX, double cameraX, double viewWidth) {
+        return maxX >= cameraX - MARGIN && minX <= cameraX + viewWidth + MARGIN;
+    }
+
+    // a node that never moves
+    public void trackStatic(Node node, Group layer, double minX, double maxX) {
+        staticEntries.add(new Entry(node, layer, minX, maxX));
+    }
+
+    // an entity's sprite, placed by updateEntity() every frame
+    public void track(GameObjects owner, Group layer) {
+        entityEntries.put(owner, new Entry(owner.getSpriteView(), layer, 0, 0));
+    }
+
+    public void untrack(GameObjects owner) {
+        Entry entry = entityEntries.remove(owner);
+        if (entry != null) {
+            detach(entry);
+        }
+    }
+
+    public void clear() {
+        for (Entry entry : staticEntries) {
+            detach(entry);
+        }
+        for (Entry entry : entityEntries.values()) {
+            detach(entry);
+        }
+        staticEntries.clear();
+        entityEntries.clear();
+    }
+
+    // static nodes only; entities go through updateEntity() with their snapshot position
+    public void update(double cameraX, double viewWidth) {
+        for (int i = 0; i < staticEntries.size(); i++) {
+            Entry entry = staticEntries.get(i);
+            setAttached(entry, isInWindow(entry.minX, entry.maxX, cameraX, viewWidth));
+        }
+    }
+
+    // Attaches or detaches the entity's view for this frame; returns true if it should be laid out
+    public boolean updateEntity(GameObjects owner, double x, double cameraX, double viewWidth) {
+        Entry entry = entityEntries.get(owner);
+        if (entry == null) {
+            return false;
+        }
+        boolean visible = isInWindow(x, x, cameraX, viewWidth);
+        setAttached(entry, visible);
+        return visible;
+    }
+
+    private void setAttached(Entry entry, boolean visible) {
+        if (visible && !entry.attached) {
+            entry.layer.getChildren().add(entry.node);
+            entry.attached = true;
+        } else if (!visible) {
+            detach(entry);
+        }
+    }
+
+    private void detach(Entry entry) {
+        if (entry.attached) {
+            entry.layer.getChildren().remove(entry.node);
+            entry.attached = false;
+        }
+    }
+}
@@ -5,6 +5,7 @@ public abstract class Weapon {
     protected int damage;
     protected String name;
     protected long lastFireTime;
+    protected SimClock clock;
 
     public Weapon(int maxAmmo, double fireRate, int damage, String name) {
         this.maxAmmo = maxAmmo;
@@ -12,16 +13,21 @@ public abstract class Weapon {
         this.damage = damage;
         this.ammo = maxAmmo;
         this.name = name;
-        this.lastFireTime = 0;
+        this.lastFireTime = SimClock.NEVER;
     }
 
-    public abstract Bullet fire(double x, double y, boolean facingRight, boolean isCrouching , boolean isMoving);
+    public void setClock(SimClock clock) {
+        this.clock = clock;
+    }
+
+    // Spawns the shot into projectiles; false if the weapon could not fire
+    public abstract boolean fire(ProjectileSystem projectiles, double x, double y, boolean facingRight, boolean isCrouching , boolean isMoving);
 
     public boolean canFire( boolean isCrouching , boolean isMoving) {
         if(isCrouching && isMoving) {
             return false;
         }
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getTimeMillis();
         double timeSinceLastShot = (currentTime - lastFireTime) / 1700.0;
 
         if(isMoving) {
@@ -50,7 +56,7 @@ public abstract class Weapon {
     }
 
     protected void updateFireTime() {
-        lastFireTime = System.currentTimeMillis();
+        lastFireTime = clock.getTimeMillis();
     }
 
 }
\ No newline at end of file